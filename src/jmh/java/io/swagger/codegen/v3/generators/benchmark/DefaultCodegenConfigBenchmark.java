@@ -0,0 +1,185 @@
+package io.swagger.codegen.v3.generators.benchmark;
+
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.SyntheticSpecBuilder;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link DefaultCodegenConfig} hot paths, per generator and spec. A
+ * benchmark invocation converts every name, text, property, model or operation of the
+ * spec once. Specs are either bundled test specs or {@code synthetic:<schemas>} specs of
+ * the {@link SyntheticSpecBuilder}. Run with {@code mvn -P jmh verify -DskipTests},
+ * which adds the gc profiler for the allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DefaultCodegenConfigBenchmark {
+
+	@Param({ "java", "spring", "python", "typescript-angular", "csharp" })
+	public String generator;
+
+	@Param({ "3_0_0/petstore.yaml", "3_0_0/composed_schemas.yaml", "synthetic:100", "synthetic:1000" })
+	public String spec;
+
+	private DefaultCodegenConfig config;
+
+	private OpenAPI openAPI;
+
+	private Map<String, Schema> schemas;
+
+	private final List<String> names = new ArrayList<>();
+
+	private final List<String> texts = new ArrayList<>();
+
+	private final List<String> propertyNames = new ArrayList<>();
+
+	private final List<Schema> propertySchemas = new ArrayList<>();
+
+	private final List<String> paths = new ArrayList<>();
+
+	private final List<String> httpMethods = new ArrayList<>();
+
+	private final List<Operation> operations = new ArrayList<>();
+
+	@Setup
+	public void setUp() {
+		config = createConfig(generator);
+		openAPI = spec.startsWith("synthetic:") ? createSyntheticSpec(Integer.parseInt(spec.substring(10)))
+				: new OpenAPIV3Parser().read("src/test/resources/" + spec);
+		config.processOpts();
+		config.preprocessOpenAPI(openAPI);
+		schemas = openAPI.getComponents().getSchemas();
+
+		final Set<String> names = new LinkedHashSet<>();
+		for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+			names.add(entry.getKey());
+			addText(entry.getValue().getDescription());
+			final Map<String, Schema> properties = entry.getValue().getProperties();
+			if (properties == null) {
+				continue;
+			}
+			for (Map.Entry<String, Schema> property : properties.entrySet()) {
+				names.add(property.getKey());
+				addText(property.getValue().getDescription());
+				propertyNames.add(property.getKey());
+				propertySchemas.add(property.getValue());
+			}
+		}
+		for (Map.Entry<String, PathItem> pathItem : openAPI.getPaths().entrySet()) {
+			for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.getValue().readOperationsMap()
+					.entrySet()) {
+				if (operation.getValue().getOperationId() != null) {
+					names.add(operation.getValue().getOperationId());
+				}
+				addText(operation.getValue().getSummary());
+				addText(operation.getValue().getDescription());
+				paths.add(pathItem.getKey());
+				httpMethods.add(operation.getKey().name().toLowerCase());
+				operations.add(operation.getValue());
+			}
+		}
+		this.names.addAll(names);
+	}
+
+	@Benchmark
+	public void camelize(Blackhole blackhole) {
+		for (String name : names) {
+			blackhole.consume(DefaultCodegenConfig.camelize(name));
+		}
+	}
+
+	@Benchmark
+	public void sanitizeName(Blackhole blackhole) {
+		// the names are distinct, so every name misses the cleared name cache
+		config.getNameCache().clear();
+		for (String name : names) {
+			blackhole.consume(config.sanitizeName(name));
+		}
+	}
+
+	@Benchmark
+	public void sanitizeNameCached(Blackhole blackhole) {
+		for (String name : names) {
+			blackhole.consume(config.sanitizeName(name));
+		}
+	}
+
+	@Benchmark
+	public void escapeText(Blackhole blackhole) {
+		for (String text : texts) {
+			blackhole.consume(config.escapeText(text));
+		}
+	}
+
+	@Benchmark
+	public void fromProperty(Blackhole blackhole) {
+		for (int i = 0; i < propertyNames.size(); i++) {
+			blackhole.consume(config.fromProperty(propertyNames.get(i), propertySchemas.get(i)));
+		}
+	}
+
+	@Benchmark
+	public void fromModel(Blackhole blackhole) {
+		for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+			blackhole.consume(config.fromModel(entry.getKey(), entry.getValue(), schemas));
+		}
+	}
+
+	@Benchmark
+	public void fromOperation(Blackhole blackhole) {
+		for (int i = 0; i < operations.size(); i++) {
+			blackhole.consume(
+					config.fromOperation(paths.get(i), httpMethods.get(i), operations.get(i), schemas, openAPI));
+		}
+	}
+
+	private void addText(String text) {
+		if (text != null) {
+			texts.add(text);
+		}
+	}
+
+	private static OpenAPI createSyntheticSpec(int schemas) {
+		return new SyntheticSpecBuilder().schemas(schemas).operations(2 * schemas).inheritanceDepth(2)
+				.composedFanOut(2).deepObjectParameters(true).build();
+	}
+
+	private static DefaultCodegenConfig createConfig(String name) {
+		for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class)) {
+			if (config.getName().equals(name)) {
+				return (DefaultCodegenConfig) config;
+			}
+		}
+		throw new IllegalArgumentException("unknown generator " + name);
+	}
+
+}
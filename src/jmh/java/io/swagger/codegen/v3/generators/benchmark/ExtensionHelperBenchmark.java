@@ -0,0 +1,135 @@
+package io.swagger.codegen.v3.generators.benchmark;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Helper;
+import com.github.jknack.handlebars.Options;
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.codegen.v3.VendorExtendable;
+import io.swagger.codegen.v3.generators.handlebars.HasHelper;
+import io.swagger.codegen.v3.generators.handlebars.HasNotHelper;
+import io.swagger.codegen.v3.generators.handlebars.IsHelper;
+import io.swagger.codegen.v3.generators.handlebars.IsNotHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the is, has, isNot and hasNot helpers over a property set, with the current
+ * helpers and with the previous implementation, which built the extension key and parsed
+ * the extension value on every call. Run with
+ * {@code mvn -P jmh verify -DskipTests -Djmh.args="-prof gc ExtensionHelper"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtensionHelperBenchmark {
+
+	private static final String TEMPLATE = "{{#each properties}}{{#is this 'enum'}}e{{/is}}"
+			+ "{{#has this 'more'}}m{{/has}}{{#isNot this 'container'}}c{{/isNot}}"
+			+ "{{#hasNot this 'validation'}}v{{/hasNot}}{{/each}}";
+
+	@Param({ "100", "10000" })
+	public int properties;
+
+	private Object context;
+
+	private Template currentTemplate;
+
+	private Template previousTemplate;
+
+	@Setup
+	public void setUp() throws IOException {
+		context = Collections.singletonMap("properties", createProperties(properties));
+
+		final Handlebars current = new Handlebars();
+		current.registerHelper(IsHelper.NAME, new IsHelper());
+		current.registerHelper(HasHelper.NAME, new HasHelper());
+		current.registerHelper(IsNotHelper.NAME, new IsNotHelper());
+		current.registerHelper(HasNotHelper.NAME, new HasNotHelper());
+
+		final Handlebars previous = new Handlebars();
+		previous.registerHelper(IsHelper.NAME, new PreviousHelper(VendorExtendable.PREFIX_IS, false));
+		previous.registerHelper(HasHelper.NAME, new PreviousHelper(VendorExtendable.PREFIX_HAS, false));
+		previous.registerHelper(IsNotHelper.NAME, new PreviousHelper(VendorExtendable.PREFIX_IS, true));
+		previous.registerHelper(HasNotHelper.NAME, new PreviousHelper(VendorExtendable.PREFIX_HAS, true));
+
+		currentTemplate = current.compileInline(TEMPLATE);
+		previousTemplate = previous.compileInline(TEMPLATE);
+		if (!currentTemplate.apply(context).equals(previousTemplate.apply(context))) {
+			throw new IllegalStateException("helpers render differently");
+		}
+	}
+
+	@Benchmark
+	public String previous() throws IOException {
+		return previousTemplate.apply(context);
+	}
+
+	@Benchmark
+	public String current() throws IOException {
+		return currentTemplate.apply(context);
+	}
+
+	private static List<CodegenProperty> createProperties(int count) {
+		final List<CodegenProperty> properties = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final CodegenProperty property = new CodegenProperty();
+			property.getVendorExtensions().put(CodegenConstants.IS_ENUM_EXT_NAME, i % 3 == 0);
+			property.getVendorExtensions().put(CodegenConstants.HAS_MORE_EXT_NAME, i < count - 1);
+			property.getVendorExtensions().put(CodegenConstants.IS_CONTAINER_EXT_NAME, i % 5 == 0);
+			// string values are still parsed
+			property.getVendorExtensions().put(CodegenConstants.HAS_VALIDATION_EXT_NAME, String.valueOf(i % 2 == 0));
+			properties.add(property);
+		}
+		return properties;
+	}
+
+	/**
+	 * The helpers before the extension keys were cached.
+	 */
+	private static class PreviousHelper implements Helper<VendorExtendable> {
+
+		private final String prefix;
+
+		private final boolean negated;
+
+		PreviousHelper(String prefix, boolean negated) {
+			this.prefix = prefix;
+			this.negated = negated;
+		}
+
+		@Override
+		public Object apply(VendorExtendable vendor, Options options) throws IOException {
+			final Options.Buffer buffer = options.buffer();
+			final String param = options.param(0);
+			final String extension = prefix + param;
+			boolean value = false;
+			if (vendor != null && vendor.getVendorExtensions().get(extension) != null) {
+				value = Boolean.parseBoolean(vendor.getVendorExtensions().get(extension).toString());
+			}
+			buffer.append(value != negated ? options.fn() : options.inverse());
+			return buffer;
+		}
+
+	}
+
+}
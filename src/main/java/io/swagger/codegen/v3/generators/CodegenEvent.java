@@ -0,0 +1,28 @@
+package io.swagger.codegen.v3.generators;
+
+/**
+ * Event of a code generation, begun by a factory method of {@link CodegenEvents} and
+ * committed once, at its end.
+ */
+public interface CodegenEvent {
+
+	CodegenEvent NONE = new CodegenEvent() {
+
+		@Override
+		public void commit() {
+		}
+
+	};
+
+	/**
+	 * Set the size of the output, for the events having one.
+	 * @param size the number of characters of the output
+	 * @return this event
+	 */
+	default CodegenEvent size(long size) {
+		return this;
+	}
+
+	void commit();
+
+}
@@ -0,0 +1,72 @@
+package io.swagger.codegen.v3.generators;
+
+/**
+ * Begins the events of the code generation recorded by Java Flight Recorder, so a
+ * recording shows the models, operations, examples, templates, template fragments and
+ * post processing hooks the time and allocations go to. Events are only recorded while a
+ * recording is running, and are no-ops on the runtimes without JFR.
+ * <p>
+ * Use: <pre>
+ * final CodegenEvent event = CodegenEvents.modelConversion(name);
+ * try {
+ *     ...
+ * }
+ * finally {
+ *     event.commit();
+ * }
+ * </pre>
+ */
+public final class CodegenEvents {
+
+	private static final boolean SUPPORTED = detectSupport();
+
+	private CodegenEvents() {
+	}
+
+	public static boolean isSupported() {
+		return SUPPORTED;
+	}
+
+	public static CodegenEvent modelConversion(String model) {
+		return SUPPORTED ? JfrCodegenEvents.modelConversion(model) : CodegenEvent.NONE;
+	}
+
+	public static CodegenEvent operationConversion(String path, String httpMethod) {
+		return SUPPORTED ? JfrCodegenEvents.operationConversion(path, httpMethod) : CodegenEvent.NONE;
+	}
+
+	public static CodegenEvent exampleGeneration(String path, String httpMethod) {
+		return SUPPORTED ? JfrCodegenEvents.exampleGeneration(path, httpMethod) : CodegenEvent.NONE;
+	}
+
+	public static CodegenEvent templateRender(String template) {
+		return SUPPORTED ? JfrCodegenEvents.templateRender(template) : CodegenEvent.NONE;
+	}
+
+	/**
+	 * @param helper the class of the handlebars helper or lambda rendering the fragment
+	 */
+	public static CodegenEvent fragmentRender(Class<?> helper) {
+		return SUPPORTED ? JfrCodegenEvents.fragmentRender(helper) : CodegenEvent.NONE;
+	}
+
+	/**
+	 * @param hook the name of the post processing method
+	 * @param subject the post processed model, if any
+	 */
+	public static CodegenEvent postProcessHook(String hook, String subject) {
+		return SUPPORTED ? JfrCodegenEvents.postProcessHook(hook, subject) : CodegenEvent.NONE;
+	}
+
+	private static boolean detectSupport() {
+		try {
+			Class.forName("jdk.jfr.Event", false, CodegenEvents.class.getClassLoader());
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			// Java 8 runtimes before 8u262
+			return false;
+		}
+	}
+
+}
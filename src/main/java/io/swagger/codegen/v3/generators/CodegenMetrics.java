@@ -0,0 +1,228 @@
+package io.swagger.codegen.v3.generators;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.v3.core.util.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wall time, CPU time and call counts of the generation phases of a generator, and
+ * counts of the converted and rendered objects.
+ * <p>
+ * Conversions and renders are timed from their start to their end. Times of parallel
+ * conversions are summed over the threads, and examples are generated while converting
+ * operations, so their time is part of both phases. The preprocessing and the post
+ * processing of the models and operations are done by the generators after their
+ * {@code super} calls, so these phases are {@link #open(Phase) open}: they last until the
+ * next phase starts. The operations post processing starts with
+ * {@code postProcessOperationsWithModels}, the {@code postProcessOperations} run before
+ * it is not timed.
+ * <p>
+ * Nothing is recorded unless enabled, a disabled phase costs a field read.
+ */
+public class CodegenMetrics {
+
+	public enum Phase {
+
+		PREPROCESS, MODELS, POST_PROCESS_MODELS, OPERATIONS, EXAMPLES, POST_PROCESS_OPERATIONS, TEMPLATES
+
+	}
+
+	public enum Counter {
+
+		MODELS, PROPERTIES, OPERATIONS, PARAMETERS,
+		/** template renders */
+		RENDERS,
+		/** characters of the rendered templates */
+		CHARACTERS
+
+	}
+
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+	private final LongAdder[] calls = createAdders(Phase.values().length);
+
+	private final LongAdder[] wallNanos = createAdders(Phase.values().length);
+
+	private final LongAdder[] cpuNanos = createAdders(Phase.values().length);
+
+	private final LongAdder[] counts = createAdders(Counter.values().length);
+
+	private final AtomicReference<Timer> openPhase = new AtomicReference<>();
+
+	private volatile boolean enabled;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Start timing a phase.
+	 * @param phase the phase
+	 * @return the timer to stop at the end of the phase, a no-op one when disabled
+	 */
+	public Timer start(Phase phase) {
+		if (!enabled) {
+			return Timer.NONE;
+		}
+		closeOpenPhase();
+		return new Timer(this, phase);
+	}
+
+	/**
+	 * Start a phase lasting until the next phase starts, or until {@link #closeOpenPhase()}.
+	 * @param phase the phase
+	 */
+	public void open(Phase phase) {
+		if (enabled) {
+			final Timer previous = openPhase.getAndSet(new Timer(this, phase));
+			if (previous != null) {
+				previous.stop();
+			}
+		}
+	}
+
+	public void closeOpenPhase() {
+		if (openPhase.get() != null) {
+			final Timer timer = openPhase.getAndSet(null);
+			if (timer != null) {
+				timer.stop();
+			}
+		}
+	}
+
+	public void increment(Counter counter) {
+		if (enabled) {
+			counts[counter.ordinal()].increment();
+		}
+	}
+
+	public void add(Counter counter, long value) {
+		if (enabled) {
+			counts[counter.ordinal()].add(value);
+		}
+	}
+
+	public long getCalls(Phase phase) {
+		return calls[phase.ordinal()].sum();
+	}
+
+	public long getWallNanos(Phase phase) {
+		return wallNanos[phase.ordinal()].sum();
+	}
+
+	public long getCpuNanos(Phase phase) {
+		return cpuNanos[phase.ordinal()].sum();
+	}
+
+	public long getCount(Counter counter) {
+		return counts[counter.ordinal()].sum();
+	}
+
+	public void reset() {
+		openPhase.set(null);
+		for (LongAdder[] adders : new LongAdder[][] { calls, wallNanos, cpuNanos, counts }) {
+			for (LongAdder adder : adders) {
+				adder.reset();
+			}
+		}
+	}
+
+	/**
+	 * @return the phases and counters, e.g.
+	 * {@code {"phases": {"MODELS": {"calls": 1, "wallNanos": 2, "cpuNanos": 3}}, "counters": {"MODELS": 1}}}
+	 */
+	public Map<String, Object> toMap() {
+		final Map<String, Object> phases = new LinkedHashMap<>();
+		for (Phase phase : Phase.values()) {
+			final Map<String, Long> values = new LinkedHashMap<>();
+			values.put("calls", getCalls(phase));
+			values.put("wallNanos", getWallNanos(phase));
+			values.put("cpuNanos", getCpuNanos(phase));
+			phases.put(phase.name(), values);
+		}
+		final Map<String, Long> counters = new LinkedHashMap<>();
+		for (Counter counter : Counter.values()) {
+			counters.put(counter.name(), getCount(counter));
+		}
+		final Map<String, Object> map = new LinkedHashMap<>();
+		map.put("phases", phases);
+		map.put("counters", counters);
+		return map;
+	}
+
+	public String toJson() {
+		try {
+			return Json.mapper().writerWithDefaultPrettyPrinter().writeValueAsString(toMap());
+		}
+		catch (JsonProcessingException e) {
+			// maps of strings and longs are always serializable
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public void writeJson(File file) throws IOException {
+		Json.mapper().writerWithDefaultPrettyPrinter().writeValue(file, toMap());
+	}
+
+	private static long getCpuNanos() {
+		return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+	}
+
+	private static LongAdder[] createAdders(int length) {
+		final LongAdder[] adders = new LongAdder[length];
+		for (int i = 0; i < length; i++) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+
+	/**
+	 * Timing of a phase, to be stopped once. The CPU time is only recorded when stopped by
+	 * the thread which started it.
+	 */
+	public static class Timer {
+
+		static final Timer NONE = new Timer(null, null);
+
+		private final CodegenMetrics metrics;
+
+		private final Phase phase;
+
+		private final Thread thread = Thread.currentThread();
+
+		private final long startNanos = System.nanoTime();
+
+		private final long startCpuNanos = getCpuNanos();
+
+		Timer(CodegenMetrics metrics, Phase phase) {
+			this.metrics = metrics;
+			this.phase = phase;
+		}
+
+		public void stop() {
+			if (metrics == null) {
+				return;
+			}
+			final int index = phase.ordinal();
+			metrics.calls[index].increment();
+			metrics.wallNanos[index].add(System.nanoTime() - startNanos);
+			if (thread == Thread.currentThread()) {
+				metrics.cpuNanos[index].add(getCpuNanos() - startCpuNanos);
+			}
+		}
+
+	}
+
+}
@@ -21,13 +21,17 @@ import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.examples.ExampleGenerator;
 import io.swagger.codegen.v3.generators.handlebars.BaseItemsHelper;
 import io.swagger.codegen.v3.generators.handlebars.BracesHelper;
+import io.swagger.codegen.v3.generators.handlebars.CachingHandlebarTemplateEngine;
 import io.swagger.codegen.v3.generators.handlebars.HasHelper;
 import io.swagger.codegen.v3.generators.handlebars.HasNotHelper;
 import io.swagger.codegen.v3.generators.handlebars.IsHelper;
 import io.swagger.codegen.v3.generators.handlebars.IsNotHelper;
 import io.swagger.codegen.v3.generators.handlebars.NotEmptyHelper;
 import io.swagger.codegen.v3.generators.handlebars.StringUtilHelper;
+import io.swagger.codegen.v3.generators.util.FlagMap;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.RefIndex;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
 import io.swagger.codegen.v3.templates.MustacheTemplateEngine;
 import io.swagger.codegen.v3.templates.TemplateEngine;
@@ -36,6 +40,7 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -46,6 +51,7 @@ import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.DateSchema;
 import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
 import io.swagger.v3.oas.models.media.EmailSchema;
 import io.swagger.v3.oas.models.media.FileSchema;
 import io.swagger.v3.oas.models.media.IntegerSchema;
@@ -66,11 +72,12 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.security.OAuthFlow;
 import io.swagger.v3.oas.models.security.OAuthFlows;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.tags.Tag;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,25 +85,29 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.swagger.codegen.v3.CodegenConstants.HAS_ONLY_READ_ONLY_EXT_NAME;
 import static io.swagger.codegen.v3.CodegenConstants.HAS_OPTIONAL_EXT_NAME;
@@ -120,6 +131,24 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
 	public static final String DEFAULT_TEMPLATE_DIR = "handlebars";
 
+	public static final String INCLUDE_SCHEMA_JSON = "includeSchemaJson";
+
+	public static final String TEMPLATE_CACHE = "templateCache";
+
+	public static final String CODEGEN_METRICS = "codegenMetrics";
+
+	private static final int CAMELIZE_MAX_REPLACEMENTS = 100;
+
+	private static final Pattern CAMELIZE_SLASH_PATTERN = Pattern.compile("\\/(.?)");
+
+	private static final Pattern CAMELIZE_DOT_PATTERN = Pattern.compile("\\.");
+
+	private static final Pattern CAMELIZE_CLASS_NAME_PATTERN = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+
+	private static final Pattern CAMELIZE_UNDERSCORE_PATTERN = Pattern.compile("(_)(.)");
+
+	private static final Pattern CAMELIZE_HYPHEN_PATTERN = Pattern.compile("(-)(.)");
+
 	protected OpenAPI openAPI;
 
 	protected OpenAPI unflattenedOpenAPI;
@@ -234,6 +263,32 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
 	protected boolean ignoreImportMapping;
 
+	protected NameCache nameCache = new NameCache();
+
+	protected CodegenMetrics metrics = new CodegenMetrics();
+
+	// Discriminators of the component schemas, by schema name
+	protected Map<String, Optional<Discriminator>> discriminators = new ConcurrentHashMap<>();
+
+	protected ExampleGenerator exampleGenerator;
+
+	protected RefIndex refIndex;
+
+	// operation ids of the operation groups of addOperationToGroup, by group
+	private final Map<List<CodegenOperation>, OperationIdIndex> operationIdIndexes = new IdentityHashMap<>();
+
+	// Pretty printed schemas (modelJson, jsonSchema) are only needed by a few templates
+	protected boolean includeSchemaJson;
+
+	// Convert the models of fromModels in parallel
+	protected boolean parallelModels;
+
+	// Convert the operations of fromOperations in parallel
+	protected boolean parallelOperations;
+
+	// Keep the compiled handlebars templates in the process wide template cache
+	protected boolean templateCache = true;
+
 	public List<CliOption> cliOptions() {
 		return cliOptions;
 	}
@@ -339,22 +394,47 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			this.setUseOas2(Boolean.valueOf(additionalProperties.get(CodegenConstants.USE_OAS2).toString()));
 		}
 
+		if (additionalProperties.containsKey(INCLUDE_SCHEMA_JSON)) {
+			this.setIncludeSchemaJson(Boolean.valueOf(additionalProperties.get(INCLUDE_SCHEMA_JSON).toString()));
+		}
+
+		if (additionalProperties.containsKey(TEMPLATE_CACHE)) {
+			this.setTemplateCache(Boolean.valueOf(additionalProperties.get(TEMPLATE_CACHE).toString()));
+		}
+
+		if (additionalProperties.containsKey(CODEGEN_METRICS)) {
+			this.metrics.setEnabled(Boolean.valueOf(additionalProperties.get(CODEGEN_METRICS).toString()));
+		}
+
 		setTemplateEngine();
+		if (metrics.isEnabled()) {
+			templateEngine = new TimedTemplateEngine(templateEngine, metrics);
+		}
+		// the options may have changed the import mappings and reserved words in place
+		this.nameCache.clear();
 	}
 
 	public Map<String, Object> postProcessAllModels(Map<String, Object> processedModels) {
-		// Index all CodegenModels by model name.
-		Map<String, CodegenModel> allModels = new HashMap<>();
-		for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
-			String modelName = toModelName(entry.getKey());
-			Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-			List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-			for (Map<String, Object> mo : models) {
-				CodegenModel codegenModel = (CodegenModel) mo.get("model");
-				allModels.put(modelName, codegenModel);
-			}
-		}
-		postProcessAllCodegenModels(allModels);
+		// generators post process the models after this call, until the models are rendered
+		metrics.open(CodegenMetrics.Phase.POST_PROCESS_MODELS);
+		final CodegenEvent event = CodegenEvents.postProcessHook("postProcessAllModels", null);
+		try {
+			// Index all CodegenModels by model name.
+			Map<String, CodegenModel> allModels = new HashMap<>();
+			for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
+				String modelName = toCachedModelName(entry.getKey());
+				Map<String, Object> inner = (Map<String, Object>) entry.getValue();
+				List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
+				for (Map<String, Object> mo : models) {
+					CodegenModel codegenModel = (CodegenModel) mo.get("model");
+					allModels.put(modelName, codegenModel);
+				}
+			}
+			postProcessAllCodegenModels(allModels);
+		}
+		finally {
+			event.commit();
+		}
 		return processedModels;
 	}
 
@@ -424,31 +504,40 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		for (Object _mo : models) {
 			Map<String, Object> mo = (Map<String, Object>) _mo;
 			CodegenModel cm = (CodegenModel) mo.get("model");
+			final CodegenEvent event = CodegenEvents.postProcessHook("processModelEnums", cm.name);
+			try {
+				processModelEnum(cm);
+			}
+			finally {
+				event.commit();
+			}
+		}
+	}
 
-			// for enum model
-			boolean isEnum = getBooleanValue(cm, IS_ENUM_EXT_NAME);
-			if (Boolean.TRUE.equals(isEnum) && cm.allowableValues != null) {
-				Map<String, Object> allowableValues = cm.allowableValues;
-				List<Object> values = (List<Object>) allowableValues.get("values");
-				List<Map<String, String>> enumVars = new ArrayList<Map<String, String>>();
-				String commonPrefix = findCommonPrefixOfVars(values);
-				int truncateIdx = commonPrefix.length();
-				for (Object value : values) {
-					Map<String, String> enumVar = new HashMap<String, String>();
-					String enumName = findEnumName(truncateIdx, value);
-					enumVar.put("name", toEnumVarName(enumName, cm.dataType));
-					if (value == null) {
-						enumVar.put("value", toEnumValue(null, cm.dataType));
-					}
-					else {
-						enumVar.put("value", toEnumValue(value.toString(), cm.dataType));
-					}
-					enumVars.add(enumVar);
+	private void processModelEnum(CodegenModel cm) {
+		// for enum model
+		boolean isEnum = getBooleanValue(cm, IS_ENUM_EXT_NAME);
+		if (Boolean.TRUE.equals(isEnum) && cm.allowableValues != null) {
+			Map<String, Object> allowableValues = cm.allowableValues;
+			List<Object> values = (List<Object>) allowableValues.get("values");
+			List<Map<String, String>> enumVars = new ArrayList<Map<String, String>>();
+			String commonPrefix = findCommonPrefixOfVars(values);
+			int truncateIdx = commonPrefix.length();
+			for (Object value : values) {
+				Map<String, String> enumVar = new HashMap<String, String>();
+				String enumName = findEnumName(truncateIdx, value);
+				enumVar.put("name", toEnumVarName(enumName, cm.dataType));
+				if (value == null) {
+					enumVar.put("value", toEnumValue(null, cm.dataType));
+				}
+				else {
+					enumVar.put("value", toEnumValue(value.toString(), cm.dataType));
 				}
-				cm.allowableValues.put("enumVars", enumVars);
+				enumVars.add(enumVar);
 			}
-			updateCodegenModelEnumVars(cm);
+			cm.allowableValues.put("enumVars", enumVars);
 		}
+		updateCodegenModelEnumVars(cm);
 	}
 
 	public boolean isPrimivite(String datatype) {
@@ -551,8 +640,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	}
 
 	// override with any special post-processing
-	@SuppressWarnings("static-method")
 	public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels) {
+		// generators post process the operations after this call, until the operations are rendered
+		metrics.open(CodegenMetrics.Phase.POST_PROCESS_OPERATIONS);
 		return objs;
 	}
 
@@ -574,7 +664,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
 	@Override
 	public void preprocessOpenAPI(OpenAPI openAPI) {
+		this.metrics.reset();
+		// generators preprocess the spec after this call, until the models are converted
+		this.metrics.open(CodegenMetrics.Phase.PREPROCESS);
 		this.openAPI = openAPI;
+		this.nameCache.clear();
+		this.discriminators.clear();
+		this.operationIdIndexes.clear();
+		this.exampleGenerator = null;
+		this.refIndex = null;
 	}
 
 	@Override
@@ -600,11 +698,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		// remove \t, \n, \r
 		// replace \ with \\
 		// replace " with \"
-		// outter unescape to retain the original multi-byte characters
+		// in a single pass, multi-byte characters are retained as they are
 		// finally escalate characters avoiding code injection
-		return escapeUnsafeCharacters(
-				StringEscapeUtils.unescapeJava(StringEscapeUtils.escapeJava(input).replace("\\/", "/"))
-						.replaceAll("[\\t\\n\\r]", " ").replace("\\", "\\\\").replace("\"", "\\\""));
+		return escapeUnsafeCharacters(TextEscaper.escapeText(input));
 	}
 
 	/**
@@ -871,7 +967,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	 * @return the file name of the Api
 	 */
 	public String toApiFilename(String name) {
-		return toApiName(name);
+		return toCachedApiName(name);
 	}
 
 	/**
@@ -880,7 +976,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	 * @return the file name of the Api
 	 */
 	public String toApiDocFilename(String name) {
-		return toApiName(name);
+		return toCachedApiName(name);
 	}
 
 	/**
@@ -889,7 +985,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	 * @return the file name of the Api
 	 */
 	public String toApiTestFilename(String name) {
-		return toApiName(name) + "Test";
+		return toCachedApiName(name) + "Test";
 	}
 
 	/**
@@ -1416,6 +1512,72 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		return initialCaps(modelNamePrefix + name + modelNameSuffix);
 	}
 
+	/**
+	 * Memoized {@link #toModelName(String)}.
+	 * @param name the name of the model
+	 * @return capitalized model name
+	 */
+	public String toCachedModelName(String name) {
+		return cachedName(NameCache.MODEL_NAME, name, this::toModelName);
+	}
+
+	/**
+	 * Memoized {@link #toVarName(String)}.
+	 * @param name the variable name
+	 * @return the sanitized variable name
+	 */
+	public String toCachedVarName(String name) {
+		return cachedName(NameCache.VAR_NAME, name, this::toVarName);
+	}
+
+	/**
+	 * Memoized {@link #toParamName(String)}.
+	 * @param name the parameter name
+	 * @return the sanitized parameter name
+	 */
+	public String toCachedParamName(String name) {
+		return cachedName(NameCache.PARAM_NAME, name, this::toParamName);
+	}
+
+	/**
+	 * Memoized {@link #toApiName(String)}.
+	 * @param name the name of the Api
+	 * @return capitalized Api name
+	 */
+	public String toCachedApiName(String name) {
+		return cachedName(NameCache.API_NAME, name, this::toApiName);
+	}
+
+	/**
+	 * Look up a name transformation in the name cache, dropping the cached names first if
+	 * any option the transformations depend on has been set to another value. Import
+	 * mappings and reserved words changed in place are picked up by the next
+	 * {@link #processOpts()} or {@link #preprocessOpenAPI(OpenAPI)}, or once
+	 * {@link #getNameCache()} is cleared.
+	 * @param transformation the transformation kind, e.g. {@link NameCache#MODEL_NAME}
+	 * @param name the name to be transformed
+	 * @param transformer the transformation
+	 * @return the transformed name
+	 */
+	protected String cachedName(String transformation, String name, Function<String, String> transformer) {
+		nameCache.invalidateOnChange(modelNamePrefix, modelNameSuffix, importMapping, reservedWords,
+				reservedWordsMappings, ignoreImportMapping, Boolean.TRUE.equals(allowUnicodeIdentifiers));
+		return nameCache.get(transformation, name, transformer);
+	}
+
+	public NameCache getNameCache() {
+		return nameCache;
+	}
+
+	/**
+	 * Return the phase timings and counters of the current run, recorded when
+	 * {@link #CODEGEN_METRICS} is enabled.
+	 * @return the metrics
+	 */
+	public CodegenMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * Convert Swagger Model object to Codegen Model object without providing all model
 	 * definitions
@@ -1438,11 +1600,27 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	 * @return Codegen Model object
 	 */
 	public CodegenModel fromModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
-		if (typeAliases == null) {
+		final CodegenMetrics.Timer timer = metrics.start(CodegenMetrics.Phase.MODELS);
+		final CodegenEvent event = CodegenEvents.modelConversion(name);
+		try {
+			metrics.increment(CodegenMetrics.Counter.MODELS);
+			return doFromModel(name, schema, allDefinitions);
+		}
+		finally {
+			event.commit();
+			timer.stop();
+		}
+	}
+
+	private CodegenModel doFromModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+		Map<String, String> aliases = typeAliases;
+		if (aliases == null) {
 			// Only do this once during first call
-			typeAliases = getAllAliases(allDefinitions);
+			aliases = getAllAliases(allDefinitions);
+			typeAliases = aliases;
 		}
 		final CodegenModel codegenModel = CodegenModelFactory.newInstance(CodegenModelType.MODEL);
+		codegenModel.vendorExtensions = compactVendorExtensions(codegenModel.vendorExtensions);
 		if (reservedWords.contains(name)) {
 			codegenModel.name = escapeReservedWord(name);
 		}
@@ -1452,15 +1630,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		codegenModel.title = escapeText(schema.getTitle());
 		codegenModel.description = escapeText(schema.getDescription());
 		codegenModel.unescapedDescription = schema.getDescription();
-		codegenModel.classname = toModelName(name);
-		codegenModel.classVarName = toVarName(name);
+		codegenModel.classname = toCachedModelName(name);
+		codegenModel.classVarName = toCachedVarName(name);
 		codegenModel.classFilename = toModelFilename(name);
-		codegenModel.modelJson = Json.pretty(schema);
+		codegenModel.modelJson = toSchemaJson(schema);
 		codegenModel.externalDocumentation = schema.getExternalDocs();
 		if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
 			codegenModel.getVendorExtensions().putAll(schema.getExtensions());
 		}
-		codegenModel.getVendorExtensions().put(CodegenConstants.IS_ALIAS_EXT_NAME, typeAliases.containsKey(name));
+		codegenModel.getVendorExtensions().put(CodegenConstants.IS_ALIAS_EXT_NAME, aliases.containsKey(name));
 
 		codegenModel.discriminator = schema.getDiscriminator();
 
@@ -1521,9 +1699,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			// interfaces (intermediate models)
 			if (allOf != null && !allOf.isEmpty()) {
 
-				if (codegenModel.discriminator != null && codegenModel.discriminator.getPropertyName() != null) {
-					codegenModel.discriminator.setPropertyName(toVarName(codegenModel.discriminator.getPropertyName()));
-				}
+				codegenModel.discriminator = toCodegenDiscriminator(codegenModel.discriminator);
 
 				for (int i = 0; i < allOf.size(); i++) {
 					if (i == 0 && !copyFistAllOfProperties) {
@@ -1534,11 +1710,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 						continue;
 					}
 					Schema refSchema = null;
-					String ref = OpenAPIUtil.getSimpleRef(interfaceSchema.get$ref());
+					String ref = getRefIndex(openAPI).getSimpleRef(interfaceSchema.get$ref());
 					if (allDefinitions != null) {
 						refSchema = allDefinitions.get(ref);
 					}
-					final String modelName = toModelName(ref);
+					final String modelName = toCachedModelName(ref);
 					addImport(codegenModel, modelName);
 					if (allDefinitions != null && refSchema != null) {
 						if (!supportsMixins) {
@@ -1554,18 +1730,14 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			final List<Schema> oneOf = composed.getOneOf();
 			if (oneOf != null && !oneOf.isEmpty()) {
 				if (schema.getDiscriminator() != null) {
-					codegenModel.discriminator = schema.getDiscriminator();
-					if (codegenModel.discriminator != null && codegenModel.discriminator.getPropertyName() != null) {
-						codegenModel.discriminator
-								.setPropertyName(toVarName(codegenModel.discriminator.getPropertyName()));
-					}
+					codegenModel.discriminator = toCodegenDiscriminator(schema.getDiscriminator());
 				}
 			}
 
 			if (parent != null) {
 				codegenModel.parentSchema = parentName;
 				codegenModel.parent = typeMapping.containsKey(parentName) ? typeMapping.get(parentName)
-						: toModelName(parentName);
+						: toCachedModelName(parentName);
 				addImport(codegenModel, codegenModel.parent);
 				if (allDefinitions != null) {
 					if (supportsInheritance) {
@@ -1607,9 +1779,100 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			}
 		}
 
+		if (allDefinitions != null && allDefinitions.get(name) == schema) {
+			discriminators.put(name, Optional.ofNullable(codegenModel.discriminator));
+		}
+
 		return codegenModel;
 	}
 
+	/**
+	 * Convert the given schemas to models. The schemas are converted in parallel when
+	 * {@link #setParallelModels(boolean)} is enabled and the generator supports it, the
+	 * models are returned in the order of the schemas either way. The default generator converts the
+	 * models one by one, this is for the callers converting all the models at once.
+	 * @param schemas the schemas to convert, by name, usually all the component schemas
+	 * @return the models, by schema name
+	 */
+	public Map<String, CodegenModel> fromModels(Map<String, Schema> schemas) {
+		final Map<String, CodegenModel> codegenModels = new LinkedHashMap<>();
+		if (schemas == null || schemas.isEmpty()) {
+			return codegenModels;
+		}
+		if (typeAliases == null) {
+			// before forking, so all the models see the same aliases
+			typeAliases = getAllAliases(schemas);
+		}
+		final List<String> names = new ArrayList<>(schemas.keySet());
+		final CodegenModel[] models = new CodegenModel[names.size()];
+		IntStream indexes = IntStream.range(0, models.length);
+		if (parallelModels && supportsParallelModels()) {
+			indexes = indexes.parallel();
+		}
+		indexes.forEach(index -> models[index] = fromModel(names.get(index), schemas.get(names.get(index)), schemas));
+		for (int i = 0; i < models.length; i++) {
+			codegenModels.put(names.get(i), models[i]);
+		}
+		return codegenModels;
+	}
+
+	/**
+	 * Return the discriminator of a component schema, as {@link #fromModel(String, Schema, Map)}
+	 * sets it on the model. Models already converted are looked up in the discriminator
+	 * index, otherwise the discriminator is resolved without converting the whole model.
+	 * @param name the name of the component schema
+	 * @param schema the component schema
+	 * @return the discriminator, or null
+	 */
+	protected Discriminator getDiscriminator(String name, Schema schema) {
+		Optional<Discriminator> discriminator = discriminators.get(name);
+		if (discriminator == null) {
+			discriminator = Optional.ofNullable(resolveDiscriminator(schema));
+			discriminators.put(name, discriminator);
+		}
+		return discriminator.orElse(null);
+	}
+
+	private Discriminator resolveDiscriminator(Schema schema) {
+		Discriminator discriminator = schema.getDiscriminator();
+		if (!(schema instanceof ComposedSchema)) {
+			return discriminator;
+		}
+		final ComposedSchema composed = (ComposedSchema) schema;
+		final List<Schema> allOf = composed.getAllOf();
+		if ((supportsInheritance || supportsMixins) && allOf != null) {
+			// same as fromModel, which looks at the first three allOf schemas
+			for (int i = 0; i < allOf.size() && i < 3 && discriminator == null; i++) {
+				discriminator = allOf.get(i).getDiscriminator();
+			}
+		}
+		if (allOf != null && !allOf.isEmpty()) {
+			discriminator = toCodegenDiscriminator(discriminator);
+		}
+		final List<Schema> oneOf = composed.getOneOf();
+		if (oneOf != null && !oneOf.isEmpty() && schema.getDiscriminator() != null) {
+			discriminator = toCodegenDiscriminator(schema.getDiscriminator());
+		}
+		return discriminator;
+	}
+
+	/**
+	 * Return a copy of the discriminator of a composed schema, with its property name
+	 * converted to a variable name. The spec discriminators are not renamed in place, as
+	 * they are shared by the models, and by the threads converting them.
+	 * @param discriminator the discriminator of the spec, or null
+	 * @return the discriminator of the model
+	 */
+	protected Discriminator toCodegenDiscriminator(Discriminator discriminator) {
+		if (discriminator == null || discriminator.getPropertyName() == null) {
+			return discriminator;
+		}
+		final Discriminator codegenDiscriminator = new Discriminator()
+				.propertyName(toCachedVarName(discriminator.getPropertyName()));
+		codegenDiscriminator.setMapping(discriminator.getMapping());
+		return codegenDiscriminator;
+	}
+
 	protected void processMapSchema(CodegenModel codegenModel, String name, Schema schema) {
 		codegenModel.getVendorExtensions().put(CodegenConstants.IS_MAP_CONTAINER_EXT_NAME, Boolean.TRUE);
 		codegenModel.getVendorExtensions().put(IS_CONTAINER_EXT_NAME, Boolean.TRUE);
@@ -1648,7 +1911,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	protected void addProperties(Map<String, Schema> properties, List<String> required, Schema schema,
 			Map<String, Schema> allSchemas) {
 		if (StringUtils.isNotBlank(schema.get$ref())) {
-			Schema interfaceSchema = allSchemas.get(OpenAPIUtil.getSimpleRef(schema.get$ref()));
+			Schema interfaceSchema = allSchemas.get(getRefIndex(openAPI).getSimpleRef(schema.get$ref()));
 			addProperties(properties, required, interfaceSchema, allSchemas);
 			return;
 		}
@@ -1680,7 +1943,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		if (name == null || name.length() == 0) {
 			return name;
 		}
-		return camelize(toVarName(name));
+		return camelize(toCachedVarName(name));
 	}
 
 	/**
@@ -1694,9 +1957,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			LOGGER.error("unexpected missing property for name " + name);
 			return null;
 		}
+		metrics.increment(CodegenMetrics.Counter.PROPERTIES);
 
 		final CodegenProperty codegenProperty = CodegenModelFactory.newInstance(CodegenModelType.PROPERTY);
-		codegenProperty.name = toVarName(name);
+		codegenProperty.vendorExtensions = compactVendorExtensions(codegenProperty.vendorExtensions);
+		codegenProperty.name = toCachedVarName(name);
 		codegenProperty.baseName = name;
 		codegenProperty.nameInCamelCase = camelize(codegenProperty.name, false);
 		codegenProperty.getter = toGetter(name);
@@ -1736,7 +2001,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		}
 		codegenProperty.defaultValue = toDefaultValue(schema);
 		codegenProperty.defaultValueWithParam = toDefaultValueWithParam(name, schema);
-		codegenProperty.jsonSchema = Json.pretty(schema);
+		codegenProperty.jsonSchema = toSchemaJson(schema);
 		codegenProperty.nullable = Boolean.TRUE.equals(schema.getNullable());
 		codegenProperty.getVendorExtensions().put(CodegenConstants.IS_NULLABLE_EXT_NAME,
 				Boolean.TRUE.equals(schema.getNullable()));
@@ -2141,7 +2406,22 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	 */
 	public CodegenOperation fromOperation(String path, String httpMethod, Operation operation,
 			Map<String, Schema> schemas, OpenAPI openAPI) {
+		final CodegenMetrics.Timer timer = metrics.start(CodegenMetrics.Phase.OPERATIONS);
+		final CodegenEvent event = CodegenEvents.operationConversion(path, httpMethod);
+		try {
+			metrics.increment(CodegenMetrics.Counter.OPERATIONS);
+			return doFromOperation(path, httpMethod, operation, schemas, openAPI);
+		}
+		finally {
+			event.commit();
+			timer.stop();
+		}
+	}
+
+	private CodegenOperation doFromOperation(String path, String httpMethod, Operation operation,
+			Map<String, Schema> schemas, OpenAPI openAPI) {
 		CodegenOperation codegenOperation = CodegenModelFactory.newInstance(CodegenModelType.OPERATION);
+		codegenOperation.vendorExtensions = compactVendorExtensions(codegenOperation.vendorExtensions);
 		Set<String> imports = new HashSet<String>();
 		if (operation.getExtensions() != null && !operation.getExtensions().isEmpty()) {
 			codegenOperation.vendorExtensions.putAll(operation.getExtensions());
@@ -2235,7 +2515,16 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 						}
 					}
 					if (!additionalProperties.containsKey(CodegenConstants.DISABLE_EXAMPLES_OPTION)) {
-						codegenOperation.examples = new ExampleGenerator(openAPI).generate(null, null, responseSchema);
+						final CodegenMetrics.Timer timer = metrics.start(CodegenMetrics.Phase.EXAMPLES);
+						final CodegenEvent event = CodegenEvents.exampleGeneration(path, httpMethod);
+						try {
+							codegenOperation.examples = getExampleGenerator(openAPI).generate(null,
+									getExampleMediaTypes(methodResponse), responseSchema);
+						}
+						finally {
+							event.commit();
+							timer.stop();
+						}
 					}
 					codegenOperation.defaultResponse = toDefaultValue(responseSchema);
 					codegenOperation.returnType = codegenProperty.datatype;
@@ -2246,8 +2535,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 					if (schemas != null) {
 						Schema schemaDefinition = schemas.get(codegenOperation.returnBaseType);
 						if (schemaDefinition != null) {
-							CodegenModel cmod = fromModel(codegenOperation.returnBaseType, schemaDefinition, schemas);
-							codegenOperation.discriminator = cmod.discriminator;
+							codegenOperation.discriminator = getDiscriminator(codegenOperation.returnBaseType,
+									schemaDefinition);
 						}
 					}
 
@@ -2275,11 +2564,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 						codegenOperation.returnTypeIsPrimitive = true;
 					}
 				}
-				Map<String, Header> componentHeaders = null;
-				if ((openAPI != null) && (openAPI.getComponents() != null)) {
-					componentHeaders = openAPI.getComponents().getHeaders();
-				}
-				addHeaders(methodResponse, codegenOperation.responseHeaders, componentHeaders);
+				addHeaders(methodResponse, codegenOperation.responseHeaders, getRefIndex(openAPI));
 			}
 		}
 
@@ -2289,8 +2574,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		RequestBody body = operation.getRequestBody();
 		if (body != null) {
 			if (StringUtils.isNotBlank(body.get$ref())) {
-				String bodyName = OpenAPIUtil.getSimpleRef(body.get$ref());
-				body = openAPI.getComponents().getRequestBodies().get(bodyName);
+				body = getRefIndex(openAPI).getRequestBody(body.get$ref());
 			}
 
 			List<Schema> foundSchemas = new ArrayList<>();
@@ -2302,13 +2586,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 				String schemaName = null;
 				Schema schema = body.getContent().get(contentType).getSchema();
 				if (schema != null && StringUtils.isNotBlank(schema.get$ref())) {
-					schemaName = OpenAPIUtil.getSimpleRef(schema.get$ref());
-					try {
-						schemaName = URLDecoder.decode(schemaName, StandardCharsets.UTF_8.name());
-					}
-					catch (UnsupportedEncodingException e) {
-						LOGGER.error("Could not decoded string: " + schemaName, e);
-					}
+					schemaName = getRefIndex(openAPI).getDecodedName(schema.get$ref());
 					schema = schemas.get(schemaName);
 				}
 				final CodegenContent codegenContent = new CodegenContent(contentType);
@@ -2316,6 +2594,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
 				if (schema == null) {
 					CodegenParameter codegenParameter = CodegenModelFactory.newInstance(CodegenModelType.PARAMETER);
+					codegenParameter.vendorExtensions = compactVendorExtensions(codegenParameter.vendorExtensions);
 					codegenParameter.description = body.getDescription();
 					codegenParameter.unescapedDescription = body.getDescription();
 					String bodyName = REQUEST_BODY_NAME;
@@ -2445,6 +2724,184 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		return codegenOperation;
 	}
 
+	/**
+	 * Return the example generator of the current run, so examples of the same response
+	 * schemas are generated once. While {@link #fromOperations(OpenAPI)} converts the
+	 * operations in parallel, the generator is an immutable one: it doesn't set examples on
+	 * the schemas of the spec, and starts every referenced schema from the same seed, so
+	 * its random numbers differ from the ones of the sequential conversion.
+	 * @param openAPI the spec of the current run
+	 * @return the example generator
+	 */
+	protected ExampleGenerator getExampleGenerator(OpenAPI openAPI) {
+		ExampleGenerator generator = exampleGenerator;
+		if (generator == null || generator.getOpenAPI() != openAPI) {
+			generator = new ExampleGenerator(openAPI, false, getRefIndex(openAPI));
+			exampleGenerator = generator;
+		}
+		return generator;
+	}
+
+	/**
+	 * Return the $ref index of the given spec, created once per run.
+	 * @param openAPI the spec of the current run
+	 * @return the $ref index
+	 */
+	protected RefIndex getRefIndex(OpenAPI openAPI) {
+		RefIndex index = refIndex;
+		if (index == null || index.getOpenAPI() != openAPI) {
+			index = new RefIndex(openAPI);
+			refIndex = index;
+		}
+		return index;
+	}
+
+	/**
+	 * Convert the operations of the spec and group them by tag, like the default generator
+	 * does: the path level parameters are added to the operations, an operation with
+	 * several tags is converted once per tag, and the security requirements of the spec
+	 * apply to the operations without their own. The operations are converted in parallel
+	 * when {@link #setParallelOperations(boolean)} is enabled and the generator supports
+	 * it. Each conversion collects its imports on its own, and the operations are added to
+	 * their groups in path order afterwards, so the groups and unique operation ids are the
+	 * same either way. The default generator converts the operations one by one, this is
+	 * for the callers converting all the operations of a spec at once.
+	 * @param openAPI the spec
+	 * @return the operations, by sanitized tag
+	 */
+	public Map<String, List<CodegenOperation>> fromOperations(OpenAPI openAPI) {
+		final Map<String, List<CodegenOperation>> operations = new TreeMap<>();
+		if (openAPI == null || openAPI.getPaths() == null || openAPI.getPaths().isEmpty()) {
+			return operations;
+		}
+		final Map<String, Schema> schemas = openAPI.getComponents() == null ? null
+				: openAPI.getComponents().getSchemas();
+		final List<OperationTask> tasks = new ArrayList<>();
+		for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+			for (Map.Entry<PathItem.HttpMethod, Operation> entry : path.getValue().readOperationsMap().entrySet()) {
+				final Operation operation = entry.getValue();
+				final String httpMethod = entry.getKey().name().toLowerCase(Locale.ROOT);
+				// before forking, the parameters are added to the operation of the spec
+				addPathParameters(path.getValue(), operation);
+				final List<Tag> tags = getTags(openAPI, operation);
+				for (Tag tag : tags) {
+					tasks.add(new OperationTask(escapeQuotationMark(path.getKey()), httpMethod, operation, tags, tag));
+				}
+			}
+		}
+		final CodegenOperation[] codegenOperations = new CodegenOperation[tasks.size()];
+		final IntConsumer conversion = index -> {
+			final OperationTask task = tasks.get(index);
+			final CodegenOperation codegenOperation = fromOperation(task.path, task.httpMethod, task.operation,
+					schemas, openAPI);
+			codegenOperation.tags = new ArrayList<>(task.tags);
+			addAuthMethods(openAPI, task.operation, codegenOperation);
+			codegenOperations[index] = codegenOperation;
+		};
+		if (parallelOperations && supportsParallelOperations()) {
+			// before forking, all the operations share the examples of an immutable generator
+			final ExampleGenerator sequentialExampleGenerator = exampleGenerator;
+			exampleGenerator = new ExampleGenerator(openAPI, true, getRefIndex(openAPI));
+			try {
+				IntStream.range(0, codegenOperations.length).parallel().forEach(conversion);
+			}
+			finally {
+				exampleGenerator = sequentialExampleGenerator;
+			}
+		}
+		else {
+			IntStream.range(0, codegenOperations.length).forEach(conversion);
+		}
+		for (int i = 0; i < codegenOperations.length; i++) {
+			final OperationTask task = tasks.get(i);
+			addOperationToGroup(sanitizeTag(task.tag.getName()), task.path, task.operation, codegenOperations[i],
+					operations);
+		}
+		return operations;
+	}
+
+	/**
+	 * Add the parameters of the path to the operation, except the ones the operation
+	 * defines with the same name and location.
+	 */
+	private static void addPathParameters(PathItem pathItem, Operation operation) {
+		if (pathItem.getParameters() == null) {
+			return;
+		}
+		final Set<String> operationParameters = new HashSet<>();
+		if (operation.getParameters() != null) {
+			for (Parameter parameter : operation.getParameters()) {
+				operationParameters.add(parameter.getName() + ":" + parameter.getIn());
+			}
+		}
+		for (Parameter parameter : pathItem.getParameters()) {
+			if (!operationParameters.contains(parameter.getName() + ":" + parameter.getIn())) {
+				operation.addParametersItem(parameter);
+			}
+		}
+	}
+
+	/**
+	 * Return the tags of the operation, the ones of the spec when defined there, or the
+	 * default tag.
+	 */
+	private static List<Tag> getTags(OpenAPI openAPI, Operation operation) {
+		final List<Tag> tags = new ArrayList<>();
+		if (operation.getTags() != null) {
+			for (String tagName : operation.getTags()) {
+				Tag specTag = null;
+				if (openAPI.getTags() != null) {
+					for (Tag tag : openAPI.getTags()) {
+						if (tag.getName().equals(tagName)) {
+							specTag = tag;
+							break;
+						}
+					}
+				}
+				tags.add(specTag != null ? specTag : new Tag().name(tagName));
+			}
+		}
+		if (tags.isEmpty()) {
+			tags.add(new Tag().name("default"));
+		}
+		return tags;
+	}
+
+	private void addAuthMethods(OpenAPI openAPI, Operation operation, CodegenOperation codegenOperation) {
+		final List<SecurityRequirement> securities = operation.getSecurity();
+		if (securities != null && securities.isEmpty()) {
+			// security explicitly removed from the operation
+			return;
+		}
+		final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() == null ? null
+				: openAPI.getComponents().getSecuritySchemes();
+		Map<String, SecurityScheme> authMethods = getAuthMethods(securities, securitySchemes);
+		if (authMethods.isEmpty()) {
+			authMethods = getAuthMethods(openAPI.getSecurity(), securitySchemes);
+		}
+		if (!authMethods.isEmpty()) {
+			codegenOperation.authMethods = fromSecurity(authMethods);
+			codegenOperation.getVendorExtensions().put(CodegenConstants.HAS_AUTH_METHODS_EXT_NAME, Boolean.TRUE);
+		}
+	}
+
+	private static Map<String, SecurityScheme> getAuthMethods(List<SecurityRequirement> securities,
+			Map<String, SecurityScheme> securitySchemes) {
+		final Map<String, SecurityScheme> authMethods = new HashMap<>();
+		if (securities == null || securitySchemes == null) {
+			return authMethods;
+		}
+		for (SecurityRequirement requirement : securities) {
+			for (String name : requirement.keySet()) {
+				final SecurityScheme securityScheme = securitySchemes.get(name);
+				if (securityScheme != null) {
+					authMethods.put(name, securityScheme);
+				}
+			}
+		}
+		return authMethods;
+	}
+
 	protected void addOperationImports(CodegenOperation codegenOperation, Set<String> operationImports) {
 		for (String operationImport : operationImports) {
 			if (needToImport(operationImport)) {
@@ -2491,15 +2948,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			codegenResponse.examples = toExamples(examples);
 		}
 
-		codegenResponse.jsonSchema = Json.pretty(response);
+		codegenResponse.jsonSchema = toSchemaJson(response);
 		if (response.getExtensions() != null && !response.getExtensions().isEmpty()) {
 			codegenResponse.vendorExtensions.putAll(response.getExtensions());
 		}
-		Map<String, Header> componentHeaders = null;
-		if ((openAPI != null) && (openAPI.getComponents() != null)) {
-			componentHeaders = openAPI.getComponents().getHeaders();
-		}
-		addHeaders(response, codegenResponse.headers, componentHeaders);
+		addHeaders(response, codegenResponse.headers, getRefIndex(openAPI));
 		codegenResponse.getVendorExtensions().put(CodegenConstants.HAS_HEADERS_EXT_NAME,
 				!codegenResponse.headers.isEmpty());
 
@@ -2601,14 +3054,16 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	 * @return Codegen Parameter object
 	 */
 	public CodegenParameter fromParameter(Parameter parameter, Set<String> imports) {
+		metrics.increment(CodegenMetrics.Counter.PARAMETERS);
 		CodegenParameter codegenParameter = CodegenModelFactory.newInstance(CodegenModelType.PARAMETER);
+		codegenParameter.vendorExtensions = compactVendorExtensions(codegenParameter.vendorExtensions);
 		codegenParameter.baseName = parameter.getName();
 		codegenParameter.description = escapeText(parameter.getDescription());
 		codegenParameter.unescapedDescription = parameter.getDescription();
 		if (parameter.getRequired() != null) {
 			codegenParameter.required = parameter.getRequired();
 		}
-		codegenParameter.jsonSchema = Json.pretty(parameter);
+		codegenParameter.jsonSchema = toSchemaJson(parameter);
 
 		if (System.getProperty("debugParser") != null) {
 			LOGGER.info("working on Parameter " + parameter.getName());
@@ -2747,7 +3202,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 				codegenParameter.getVendorExtensions().put(CodegenConstants.IS_COLLECTION_FORMAT_MULTI_EXT_NAME,
 						Boolean.TRUE);
 			}
-			codegenParameter.paramName = toParamName(parameter.getName());
+			codegenParameter.paramName = toCachedParamName(parameter.getName());
 
 			// import
 			if (codegenProperty.complexType != null) {
@@ -2873,6 +3328,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	public CodegenParameter fromRequestBody(RequestBody body, String name, Schema schema, Map<String, Schema> schemas,
 			Set<String> imports) {
 		CodegenParameter codegenParameter = CodegenModelFactory.newInstance(CodegenModelType.PARAMETER);
+		codegenParameter.vendorExtensions = compactVendorExtensions(codegenParameter.vendorExtensions);
 
 		String bodyName = REQUEST_BODY_NAME;
 		if (body.getExtensions() != null && body.getExtensions().get("x-codegen-request-body-name") != null) {
@@ -2885,7 +3341,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		codegenParameter.required = body.getRequired() != null ? body.getRequired() : Boolean.FALSE;
 		codegenParameter.getVendorExtensions().put(CodegenConstants.IS_BODY_PARAM_EXT_NAME, Boolean.TRUE);
 
-		codegenParameter.jsonSchema = Json.pretty(body);
+		codegenParameter.jsonSchema = toSchemaJson(body);
 
 		if (body.getContent() != null && !body.getContent().isEmpty()) {
 			Object example = new ArrayList<>(body.getContent().values()).get(0).getExample();
@@ -2905,7 +3361,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			schema = getSchemaFromBody(body);
 		}
 		if (StringUtils.isNotBlank(schema.get$ref())) {
-			name = OpenAPIUtil.getSimpleRef(schema.get$ref());
+			name = getRefIndex(openAPI).getSimpleRef(schema.get$ref());
 			schema = schemas.get(name);
 		}
 		if (isObjectSchema(schema)) {
@@ -3202,18 +3658,17 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		return output;
 	}
 
-	private void addHeaders(ApiResponse response, List<CodegenProperty> target, Map<String, Header> componentHeaders) {
+	private void addHeaders(ApiResponse response, List<CodegenProperty> target, RefIndex refIndex) {
 		if (response.getHeaders() != null) {
 			for (Map.Entry<String, Header> headers : response.getHeaders().entrySet()) {
 				Header header = headers.getValue();
-				Schema schema;
-				if ((header.get$ref() != null) && (componentHeaders != null)) {
-					String ref = OpenAPIUtil.getSimpleRef(header.get$ref());
-					schema = componentHeaders.get(ref).getSchema();
-				}
-				else {
-					schema = header.getSchema();
+				if (header.get$ref() != null) {
+					final Header componentHeader = refIndex.getHeader(header.get$ref());
+					if (componentHeader != null) {
+						header = componentHeader;
+					}
 				}
+				Schema schema = header.getSchema();
 				target.add(fromProperty(headers.getKey(), schema));
 			}
 		}
@@ -3241,7 +3696,6 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	 * @param co Codegen Operation object
 	 * @param operations map of Codegen operations
 	 */
-	@SuppressWarnings("static-method")
 	public void addOperationToGroup(String tag, String resourcePath, Operation operation, CodegenOperation co,
 			Map<String, List<CodegenOperation>> operations) {
 		List<CodegenOperation> opList = operations.get(tag);
@@ -3250,15 +3704,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			operations.put(tag, opList);
 		}
 		// check for operationId uniqueness
-
-		String uniqueName = co.operationId;
-		int counter = 0;
-		for (CodegenOperation op : opList) {
-			if (uniqueName.equals(op.operationId)) {
-				uniqueName = co.operationId + "_" + counter;
-				counter++;
-			}
-		}
+		final String uniqueName = getOperationIdIndex(opList).toUniqueOperationId(co.operationId);
 		if (!co.operationId.equals(uniqueName)) {
 			LOGGER.warn("generated unique operationId `" + uniqueName + "`");
 		}
@@ -3270,6 +3716,16 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		co.baseName = tag;
 	}
 
+	private OperationIdIndex getOperationIdIndex(List<CodegenOperation> opList) {
+		OperationIdIndex operationIdIndex = operationIdIndexes.get(opList);
+		if (operationIdIndex == null || !operationIdIndex.canIndex(opList)) {
+			operationIdIndex = new OperationIdIndex();
+			operationIdIndexes.put(opList, operationIdIndex);
+		}
+		operationIdIndex.index(opList);
+		return operationIdIndex;
+	}
+
 	public void addParentContainer(CodegenModel codegenModel, String name, Schema schema) {
 		final CodegenProperty codegenProperty = fromProperty(name, schema);
 		addImport(codegenModel, codegenProperty.complexType);
@@ -3328,13 +3784,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	 * @param name The base name
 	 * @return The next name for the base name
 	 */
-	private static String generateNextName(String name) {
-		Pattern pattern = Pattern.compile("\\d+\\z");
-		Matcher matcher = pattern.matcher(name);
-		if (matcher.find()) {
-			String numStr = matcher.group();
-			int num = Integer.parseInt(numStr) + 1;
-			return name.substring(0, name.length() - numStr.length()) + num;
+	static String generateNextName(String name) {
+		// start of the trailing digits, as matched by \d+\z
+		int numStart = name.length();
+		while (numStart > 0 && name.charAt(numStart - 1) >= '0' && name.charAt(numStart - 1) <= '9') {
+			numStart--;
+		}
+		if (numStart < name.length()) {
+			int num = Integer.parseInt(name.substring(numStart)) + 1;
+			return name.substring(0, numStart) + num;
 		}
 		else {
 			return name + "2";
@@ -3563,34 +4021,144 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	 * @return camelized string
 	 */
 	public static String camelize(String word, boolean lowercaseFirstLetter) {
+		if (!isSinglePassCamelizable(word)) {
+			return camelizeWithPatterns(word, lowercaseFirstLetter);
+		}
+		// Single scan applying, in order, the same rules as camelizeWithPatterns:
+		// slashes and dots start a new capitalized segment, the first word character is
+		// uppercased, then underscores and hyphens are removed camel casing the next
+		// character.
+		final int length = word.length();
+		final StringBuilder camelized = new StringBuilder(length);
+		boolean segmentStart = true;
+		boolean classNameCapitalized = false;
+		boolean pendingUnderscore = false;
+		boolean pendingHyphen = false;
+		for (int i = 0; i < length; i++) {
+			char c = word.charAt(i);
+			if (c == '/' || c == '.') {
+				segmentStart = true;
+				continue;
+			}
+			if (segmentStart) {
+				c = Character.toUpperCase(c);
+				segmentStart = false;
+			}
+			if (!classNameCapitalized && isAsciiWordCharacter(c)) {
+				c = Character.toUpperCase(c);
+				classNameCapitalized = true;
+			}
+			if (pendingUnderscore) {
+				final char upperCase = Character.toUpperCase(c);
+				if (upperCase != c) {
+					c = upperCase;
+					pendingUnderscore = false;
+				}
+				else if (c == '_') {
+					// "__" collapses into the second underscore
+					continue;
+				}
+				else {
+					pendingUnderscore = false;
+				}
+			}
+			else if (c == '_') {
+				pendingUnderscore = true;
+				continue;
+			}
+			if (pendingHyphen) {
+				if (c == '-') {
+					// "--" collapses into the second hyphen
+					continue;
+				}
+				c = Character.toUpperCase(c);
+				pendingHyphen = false;
+			}
+			else if (c == '-') {
+				pendingHyphen = true;
+				continue;
+			}
+			camelized.append(c);
+		}
+		if (pendingUnderscore) {
+			// a trailing underscore is kept, and consumes a pending hyphen
+			camelized.append('_');
+			pendingHyphen = false;
+		}
+		if (pendingHyphen) {
+			camelized.append('-');
+		}
+		if (lowercaseFirstLetter && camelized.length() > 0) {
+			camelized.setCharAt(0, Character.toLowerCase(camelized.charAt(0)));
+		}
+		return camelized.toString();
+	}
+
+	private static boolean isAsciiWordCharacter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+	}
+
+	/**
+	 * Check whether the single pass in {@link #camelize(String, boolean)} yields the same
+	 * result as {@link #camelizeWithPatterns(String, boolean)}. Non ASCII characters,
+	 * characters with a meaning in regex replacements, line terminators, names hitting the
+	 * replacement limit and locales with special casing rules go through the patterns.
+	 * @param word string to be camelize
+	 * @return true if the word can be camelized in a single pass
+	 */
+	private static boolean isSinglePassCamelizable(String word) {
+		int slashes = 0;
+		int underscores = 0;
+		int hyphens = 0;
+		final int length = word.length();
+		for (int i = 0; i < length; i++) {
+			final char c = word.charAt(i);
+			if (c > 0x7F || c == '$' || c == '\\' || c == '\n' || c == '\r') {
+				return false;
+			}
+			if (c == '/') {
+				slashes++;
+			}
+			else if (c == '_') {
+				underscores++;
+			}
+			else if (c == '-') {
+				hyphens++;
+			}
+		}
+		if (slashes > CAMELIZE_MAX_REPLACEMENTS || underscores > CAMELIZE_MAX_REPLACEMENTS
+				|| hyphens > CAMELIZE_MAX_REPLACEMENTS) {
+			return false;
+		}
+		final String language = Locale.getDefault().getLanguage();
+		return !"tr".equals(language) && !"az".equals(language);
+	}
+
+	/**
+	 * Camelize name using regular expressions, copied from Twitter elephant bird. Used for
+	 * the names {@link #camelize(String, boolean)} can't handle in a single pass.
+	 * @param word string to be camelize
+	 * @param lowercaseFirstLetter lower case for first letter if set to true
+	 * @return camelized string
+	 */
+	static String camelizeWithPatterns(String word, boolean lowercaseFirstLetter) {
 		// Replace all slashes with dots (package separator)
 		String originalWord = word;
-		LOGGER.trace("camelize start - " + originalWord);
-		Pattern p = Pattern.compile("\\/(.?)");
-		Matcher m = p.matcher(word);
+		LOGGER.trace("camelize start - {}", originalWord);
+		Matcher m = CAMELIZE_SLASH_PATTERN.matcher(word);
 		int i = 0;
-		int MAX = 100;
 		while (m.find()) {
-			if (i > MAX) {
+			if (i > CAMELIZE_MAX_REPLACEMENTS) {
 				LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
 				break;
 			}
 			i++;
-			word = m.replaceFirst("." + m.group(1)/* .toUpperCase() */); // FIXME: a
-																			// parameter
-																			// should not
-																			// be
-																			// assigned.
-																			// Also
-																			// declare the
-																			// methods
-																			// parameters
-																			// as 'final'.
-			m = p.matcher(word);
+			word = m.replaceFirst("." + m.group(1));
+			m = CAMELIZE_SLASH_PATTERN.matcher(word);
 		}
 		i = 0;
 		// case out dots
-		String[] parts = word.split("\\.");
+		String[] parts = CAMELIZE_DOT_PATTERN.split(word);
 		StringBuilder f = new StringBuilder();
 		for (String z : parts) {
 			if (z.length() > 0) {
@@ -3599,21 +4167,19 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		}
 		word = f.toString();
 
-		m = p.matcher(word);
+		m = CAMELIZE_SLASH_PATTERN.matcher(word);
 		while (m.find()) {
-			if (i > MAX) {
+			if (i > CAMELIZE_MAX_REPLACEMENTS) {
 				LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
 				break;
 			}
 			i++;
-			word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0))
-					+ m.group(1).substring(1)/* .toUpperCase() */);
-			m = p.matcher(word);
+			word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1));
+			m = CAMELIZE_SLASH_PATTERN.matcher(word);
 		}
 		i = 0;
 		// Uppercase the class name.
-		p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
-		m = p.matcher(word);
+		m = CAMELIZE_CLASS_NAME_PATTERN.matcher(word);
 		if (m.find()) {
 			String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
 			rep = rep.replaceAll("\\$", "\\\\\\$");
@@ -3621,10 +4187,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		}
 
 		// Remove all underscores (underscore_case to camelCase)
-		p = Pattern.compile("(_)(.)");
-		m = p.matcher(word);
+		m = CAMELIZE_UNDERSCORE_PATTERN.matcher(word);
 		while (m.find()) {
-			if (i > MAX) {
+			if (i > CAMELIZE_MAX_REPLACEMENTS) {
 				LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
 				break;
 			}
@@ -3637,21 +4202,20 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			else {
 				word = m.replaceFirst(upperCase);
 			}
-			m = p.matcher(word);
+			m = CAMELIZE_UNDERSCORE_PATTERN.matcher(word);
 		}
 
 		// Remove all hyphens (hyphen-case to camelCase)
-		p = Pattern.compile("(-)(.)");
-		m = p.matcher(word);
+		m = CAMELIZE_HYPHEN_PATTERN.matcher(word);
 		i = 0;
 		while (m.find()) {
-			if (i > MAX) {
+			if (i > CAMELIZE_MAX_REPLACEMENTS) {
 				LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
 				break;
 			}
 			i++;
 			word = m.replaceFirst(m.group(2).toUpperCase());
-			m = p.matcher(word);
+			m = CAMELIZE_HYPHEN_PATTERN.matcher(word);
 		}
 
 		if (lowercaseFirstLetter && word.length() > 0) {
@@ -3864,6 +4428,10 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	 */
 	@SuppressWarnings("static-method")
 	public String sanitizeName(String name) {
+		return cachedName(NameCache.SANITIZED_NAME, name, this::toSanitizedName);
+	}
+
+	private String toSanitizedName(String name) {
 		// NOTE: performance wise, we should have written with 2 replaceAll to replace
 		// desired
 		// character with _ or empty character. Below aims to spell out different cases
@@ -4259,6 +4827,83 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		this.useOas2 = useOas2;
 	}
 
+	public boolean getIncludeSchemaJson() {
+		return includeSchemaJson;
+	}
+
+	public void setIncludeSchemaJson(boolean includeSchemaJson) {
+		this.includeSchemaJson = includeSchemaJson;
+	}
+
+	public boolean getParallelModels() {
+		return parallelModels;
+	}
+
+	/**
+	 * Convert the models of {@link #fromModels(Map)} in parallel. Only the callers
+	 * converting the models with {@link #fromModels(Map)} themselves benefit, the default
+	 * generator converts the models one by one.
+	 * @param parallelModels true to convert the models in parallel
+	 */
+	public void setParallelModels(boolean parallelModels) {
+		this.parallelModels = parallelModels;
+	}
+
+	/**
+	 * Whether {@link #fromModel(String, Schema, Map)} can be called from several threads at
+	 * once. Generators opt in once their conversions have been checked not to change any
+	 * shared state, including the state of the spec.
+	 * @return true if models can be converted in parallel
+	 */
+	protected boolean supportsParallelModels() {
+		return false;
+	}
+
+	public boolean getParallelOperations() {
+		return parallelOperations;
+	}
+
+	/**
+	 * Convert the operations of {@link #fromOperations(OpenAPI)} in parallel. Only the
+	 * callers converting the operations with {@link #fromOperations(OpenAPI)} themselves
+	 * benefit, the default generator converts the operations one by one.
+	 * @param parallelOperations true to convert the operations in parallel
+	 */
+	public void setParallelOperations(boolean parallelOperations) {
+		this.parallelOperations = parallelOperations;
+	}
+
+	/**
+	 * Whether {@link #fromOperation(String, String, Operation, Map, OpenAPI)} can be called
+	 * from several threads at once. Generators opt in once their conversions have been
+	 * checked not to change any shared state.
+	 * @return true if operations can be converted in parallel
+	 */
+	protected boolean supportsParallelOperations() {
+		return false;
+	}
+
+	public boolean getTemplateCache() {
+		return templateCache;
+	}
+
+	public void setTemplateCache(boolean templateCache) {
+		this.templateCache = templateCache;
+	}
+
+	/**
+	 * Pretty print the given schema (or parameter, response, etc.) for the modelJson and
+	 * jsonSchema template values, only when {@link #INCLUDE_SCHEMA_JSON} is enabled.
+	 * @param schema the object to serialize
+	 * @return the pretty printed json, or null
+	 */
+	protected String toSchemaJson(Object schema) {
+		if (!includeSchemaJson) {
+			return null;
+		}
+		return Json.pretty(schema);
+	}
+
 	public abstract String getDefaultTemplateDir();
 
 	public boolean convertPropertyToBoolean(String propertyKey) {
@@ -4320,6 +4965,25 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		return schema;
 	}
 
+	/**
+	 * Media types the examples of the response are generated for
+	 * @param response the method response
+	 * @return the JSON and XML media types of the response content, or <tt>null</tt> for
+	 * the default JSON example when there are none
+	 */
+	protected List<String> getExampleMediaTypes(ApiResponse response) {
+		if (response.getContent() == null) {
+			return null;
+		}
+		final List<String> mediaTypes = new ArrayList<>();
+		for (String contentType : response.getContent().keySet()) {
+			if (contentType.startsWith("application/json") || contentType.startsWith("application/xml")) {
+				mediaTypes.add(contentType);
+			}
+		}
+		return mediaTypes.isEmpty() ? null : mediaTypes;
+	}
+
 	protected Schema getSchemaFromParameter(Parameter parameter) {
 		if (parameter.getContent() == null || parameter.getContent().isEmpty()) {
 			return null;
@@ -4336,6 +5000,10 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 	}
 
 	protected Parameter getParameterFromRef(String ref, OpenAPI openAPI) {
+		final Parameter parameter = getRefIndex(openAPI).getParameter(ref);
+		if (parameter != null) {
+			return parameter;
+		}
 		String parameterName = ref.substring(ref.lastIndexOf('/') + 1);
 		Map<String, Parameter> parameterMap = openAPI.getComponents().getParameters();
 		return parameterMap.get(parameterName);
@@ -4346,11 +5014,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 				? additionalProperties.get(CodegenConstants.TEMPLATE_ENGINE).toString() : null;
 
 		if (templateEngineKey == null) {
-			templateEngine = new HandlebarTemplateEngine(this);
+			templateEngine = createHandlebarTemplateEngine();
 		}
 		else {
 			if (CodegenConstants.HANDLEBARS_TEMPLATE_ENGINE.equalsIgnoreCase(templateEngineKey)) {
-				templateEngine = new HandlebarTemplateEngine(this);
+				templateEngine = createHandlebarTemplateEngine();
 			}
 			else {
 				templateEngine = new MustacheTemplateEngine(this);
@@ -4358,6 +5026,31 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		}
 	}
 
+	/**
+	 * Return the vendor extensions map of a new model, property, operation or parameter.
+	 * The boolean flags of {@link CodegenConstants} are stored as bits.
+	 * @param vendorExtensions the vendor extensions of the new object
+	 * @return the vendor extensions map to be used by the object
+	 */
+	protected Map<String, Object> compactVendorExtensions(Map<String, Object> vendorExtensions) {
+		if (vendorExtensions instanceof FlagMap) {
+			return vendorExtensions;
+		}
+		return vendorExtensions == null ? new FlagMap() : new FlagMap(vendorExtensions);
+	}
+
+	/**
+	 * Create the handlebars template engine, sharing the compiled templates with the
+	 * other generations of the process unless {@link #TEMPLATE_CACHE} is disabled.
+	 * @return the template engine
+	 */
+	protected TemplateEngine createHandlebarTemplateEngine() {
+		if (templateCache) {
+			return new CachingHandlebarTemplateEngine(this);
+		}
+		return new HandlebarTemplateEngine(this);
+	}
+
 	protected String getTemplateDir() {
 		return new StringBuilder().append(templateEngine.getName()).append(File.separatorChar)
 				.append(getDefaultTemplateDir()).toString();
@@ -4390,8 +5083,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			return;
 		}
 		if (StringUtils.isNotBlank(body.get$ref())) {
-			String bodyName = OpenAPIUtil.getSimpleRef(body.get$ref());
-			body = openAPI.getComponents().getRequestBodies().get(bodyName);
+			body = getRefIndex(openAPI).getRequestBody(body.get$ref());
 		}
 
 		if (body.getContent() == null || body.getContent().isEmpty()) {
@@ -4518,7 +5210,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			if (StringUtils.isBlank(ref)) {
 				return null;
 			}
-			ref = OpenAPIUtil.getSimpleRef(ref);
+			ref = getRefIndex(openAPI).getSimpleRef(ref);
 			return allSchemas.get(ref);
 		}
 		return null;
@@ -4531,7 +5223,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 			if (StringUtils.isBlank(ref)) {
 				return null;
 			}
-			return OpenAPIUtil.getSimpleRef(ref);
+			return getRefIndex(openAPI).getSimpleRef(ref);
 		}
 		return null;
 	}
@@ -4664,11 +5356,18 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		if (codegenParameters == null || codegenParameters.isEmpty()) {
 			return;
 		}
+		// number of parameters currently using each name
+		final Map<String, Integer> counts = new HashMap<>(codegenParameters.size() * 4 / 3 + 1);
 		for (CodegenParameter codegenParameter : codegenParameters) {
-			long count = codegenParameters.stream()
-					.filter(codegenParam -> codegenParam.paramName.equals(codegenParameter.paramName)).count();
-			if (count > 1l) {
-				codegenParameter.paramName = generateNextName(codegenParameter.paramName);
+			counts.merge(codegenParameter.paramName, 1, Integer::sum);
+		}
+		for (CodegenParameter codegenParameter : codegenParameters) {
+			final String paramName = codegenParameter.paramName;
+			final int count = counts.get(paramName);
+			if (count > 1) {
+				counts.put(paramName, count - 1);
+				codegenParameter.paramName = generateNextName(paramName);
+				counts.merge(codegenParameter.paramName, 1, Integer::sum);
 			}
 		}
 	}
@@ -4707,4 +5406,65 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 		return this.openAPI;
 	}
 
+	/**
+	 * Operation ids of an operation group, with the next suffix to try for each duplicated
+	 * id. Operations added to the group since the last lookup are indexed on the next one.
+	 */
+	private static class OperationIdIndex {
+
+		private final Set<String> operationIds = new HashSet<>();
+
+		private final Map<String, Integer> nextSuffixes = new HashMap<>();
+
+		private int size;
+
+		boolean canIndex(List<CodegenOperation> opList) {
+			return this.size <= opList.size();
+		}
+
+		void index(List<CodegenOperation> opList) {
+			for (int i = this.size; i < opList.size(); i++) {
+				this.operationIds.add(opList.get(i).operationId);
+			}
+			this.size = opList.size();
+		}
+
+		String toUniqueOperationId(String operationId) {
+			if (!this.operationIds.contains(operationId)) {
+				return operationId;
+			}
+			int suffix = this.nextSuffixes.getOrDefault(operationId, 0);
+			String uniqueOperationId = operationId + "_" + suffix;
+			while (this.operationIds.contains(uniqueOperationId)) {
+				suffix++;
+				uniqueOperationId = operationId + "_" + suffix;
+			}
+			this.nextSuffixes.put(operationId, suffix + 1);
+			return uniqueOperationId;
+		}
+
+	}
+
+	private static class OperationTask {
+
+		private final String path;
+
+		private final String httpMethod;
+
+		private final Operation operation;
+
+		private final List<Tag> tags;
+
+		private final Tag tag;
+
+		OperationTask(String path, String httpMethod, Operation operation, List<Tag> tags, Tag tag) {
+			this.path = path;
+			this.httpMethod = httpMethod;
+			this.operation = operation;
+			this.tags = tags;
+			this.tag = tag;
+		}
+
+	}
+
 }
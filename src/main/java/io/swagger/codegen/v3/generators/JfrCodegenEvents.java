@@ -0,0 +1,197 @@
+package io.swagger.codegen.v3.generators;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The JFR events of {@link CodegenEvents}, only loaded when JFR is available. The events
+ * are only created when a running recording has them enabled.
+ */
+final class JfrCodegenEvents {
+
+	static final String CATEGORY = "Swagger Codegen";
+
+	private static final EventType MODEL_CONVERTED = EventType.getEventType(ModelConverted.class);
+
+	private static final EventType OPERATION_CONVERTED = EventType.getEventType(OperationConverted.class);
+
+	private static final EventType EXAMPLE_GENERATED = EventType.getEventType(ExampleGenerated.class);
+
+	private static final EventType TEMPLATE_RENDERED = EventType.getEventType(TemplateRendered.class);
+
+	private static final EventType FRAGMENT_RENDERED = EventType.getEventType(FragmentRendered.class);
+
+	private static final EventType POST_PROCESS_HOOK = EventType.getEventType(PostProcessHook.class);
+
+	private JfrCodegenEvents() {
+	}
+
+	static CodegenEvent modelConversion(String model) {
+		if (!MODEL_CONVERTED.isEnabled()) {
+			return CodegenEvent.NONE;
+		}
+		final ModelConverted event = new ModelConverted();
+		event.model = model;
+		event.begin();
+		return event;
+	}
+
+	static CodegenEvent operationConversion(String path, String httpMethod) {
+		if (!OPERATION_CONVERTED.isEnabled()) {
+			return CodegenEvent.NONE;
+		}
+		final OperationConverted event = new OperationConverted();
+		event.path = path;
+		event.httpMethod = httpMethod;
+		event.begin();
+		return event;
+	}
+
+	static CodegenEvent exampleGeneration(String path, String httpMethod) {
+		if (!EXAMPLE_GENERATED.isEnabled()) {
+			return CodegenEvent.NONE;
+		}
+		final ExampleGenerated event = new ExampleGenerated();
+		event.path = path;
+		event.httpMethod = httpMethod;
+		event.begin();
+		return event;
+	}
+
+	static CodegenEvent templateRender(String template) {
+		if (!TEMPLATE_RENDERED.isEnabled()) {
+			return CodegenEvent.NONE;
+		}
+		final TemplateRendered event = new TemplateRendered();
+		event.template = template;
+		event.begin();
+		return event;
+	}
+
+	static CodegenEvent fragmentRender(Class<?> helper) {
+		if (!FRAGMENT_RENDERED.isEnabled()) {
+			return CodegenEvent.NONE;
+		}
+		final FragmentRendered event = new FragmentRendered();
+		event.helper = helper;
+		event.begin();
+		return event;
+	}
+
+	static CodegenEvent postProcessHook(String hook, String subject) {
+		if (!POST_PROCESS_HOOK.isEnabled()) {
+			return CodegenEvent.NONE;
+		}
+		final PostProcessHook event = new PostProcessHook();
+		event.hook = hook;
+		event.subject = subject;
+		event.begin();
+		return event;
+	}
+
+	@Name("io.swagger.codegen.ModelConverted")
+	@Label("Model Converted")
+	@Category(CATEGORY)
+	@Description("Conversion of a schema into a codegen model")
+	static class ModelConverted extends Event implements CodegenEvent {
+
+		@Label("Model")
+		String model;
+
+	}
+
+	@Name("io.swagger.codegen.OperationConverted")
+	@Label("Operation Converted")
+	@Category(CATEGORY)
+	@Description("Conversion of an operation into a codegen operation, examples included")
+	static class OperationConverted extends Event implements CodegenEvent {
+
+		@Label("Path")
+		String path;
+
+		@Label("HTTP Method")
+		String httpMethod;
+
+	}
+
+	@Name("io.swagger.codegen.ExampleGenerated")
+	@Label("Example Generated")
+	@Category(CATEGORY)
+	@Description("Generation of the response examples of an operation")
+	static class ExampleGenerated extends Event implements CodegenEvent {
+
+		@Label("Path")
+		String path;
+
+		@Label("HTTP Method")
+		String httpMethod;
+
+	}
+
+	@Name("io.swagger.codegen.TemplateRendered")
+	@Label("Template Rendered")
+	@Category(CATEGORY)
+	@Description("Rendering of a template into a file content")
+	static class TemplateRendered extends Event implements CodegenEvent {
+
+		@Label("Template")
+		String template;
+
+		@Label("Output Characters")
+		long outputSize;
+
+		@Override
+		public CodegenEvent size(long size) {
+			this.outputSize = size;
+			return this;
+		}
+
+	}
+
+	/**
+	 * Fragments are rendered by the thousands, so they are only recorded above a
+	 * threshold and without stack trace by default.
+	 */
+	@Name("io.swagger.codegen.FragmentRendered")
+	@Label("Template Fragment Rendered")
+	@Category(CATEGORY)
+	@Description("Rendering of a template fragment by a handlebars helper or lambda, nested fragments included")
+	@StackTrace(false)
+	@Threshold("100 us")
+	static class FragmentRendered extends Event implements CodegenEvent {
+
+		@Label("Helper")
+		Class<?> helper;
+
+		@Label("Output Characters")
+		long outputSize;
+
+		@Override
+		public CodegenEvent size(long size) {
+			this.outputSize = size;
+			return this;
+		}
+
+	}
+
+	@Name("io.swagger.codegen.PostProcessHook")
+	@Label("Post Process Hook")
+	@Category(CATEGORY)
+	@Description("Post processing of the codegen models by a generator hook")
+	static class PostProcessHook extends Event implements CodegenEvent {
+
+		@Label("Hook")
+		String hook;
+
+		@Label("Model")
+		String subject;
+
+	}
+
+}
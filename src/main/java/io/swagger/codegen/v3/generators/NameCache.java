@@ -0,0 +1,156 @@
+package io.swagger.codegen.v3.generators;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Memoizes the name transformations of a generator (model, variable, parameter and api
+ * names, sanitized names). Entries are dropped as soon as one of the options the
+ * transformations depend on changes.
+ */
+public class NameCache {
+
+	public static final String MODEL_NAME = "modelName";
+
+	public static final String VAR_NAME = "varName";
+
+	public static final String PARAM_NAME = "paramName";
+
+	public static final String API_NAME = "apiName";
+
+	public static final String SANITIZED_NAME = "sanitizedName";
+
+	private final Map<String, Map<String, String>> names = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private volatile Options options;
+
+	/**
+	 * Return the cached transformation of the given name, applying the transformation on
+	 * a miss.
+	 * @param transformation the transformation kind, e.g. {@link #MODEL_NAME}
+	 * @param name the name to be transformed
+	 * @param transformer the transformation
+	 * @return the transformed name
+	 */
+	public String get(String transformation, String name, Function<String, String> transformer) {
+		if (name == null) {
+			return transformer.apply(null);
+		}
+		final Map<String, String> transformedNames = names.computeIfAbsent(transformation,
+				key -> new ConcurrentHashMap<>());
+		final String cachedName = transformedNames.get(name);
+		if (cachedName != null) {
+			hits.increment();
+			return cachedName;
+		}
+		misses.increment();
+		// not using computeIfAbsent, transformations may call back into the cache
+		final String transformedName = transformer.apply(name);
+		if (transformedName != null) {
+			transformedNames.putIfAbsent(name, transformedName);
+		}
+		return transformedName;
+	}
+
+	/**
+	 * Clear the cache if any of the options the name transformations depend on changed
+	 * since the last call. Maps and sets are compared by reference, the generator clears
+	 * the cache when their content may have changed, see {@link #clear()}.
+	 */
+	public void invalidateOnChange(String modelNamePrefix, String modelNameSuffix, Map<String, String> importMapping,
+			Set<String> reservedWords, Map<String, String> reservedWordsMappings, boolean ignoreImportMapping,
+			boolean allowUnicodeIdentifiers) {
+		final Options current = this.options;
+		if (current != null && current.matches(modelNamePrefix, modelNameSuffix, importMapping, reservedWords,
+				reservedWordsMappings, ignoreImportMapping, allowUnicodeIdentifiers)) {
+			return;
+		}
+		synchronized (this) {
+			names.clear();
+			this.options = new Options(modelNamePrefix, modelNameSuffix, importMapping, reservedWords,
+					reservedWordsMappings, ignoreImportMapping, allowUnicodeIdentifiers);
+		}
+	}
+
+	/**
+	 * Clear the cache, e.g. once the import mappings or reserved words may have been changed
+	 * in place.
+	 */
+	public void clear() {
+		synchronized (this) {
+			names.clear();
+			this.options = null;
+		}
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public int size() {
+		int size = 0;
+		for (Map<String, String> transformedNames : names.values()) {
+			size += transformedNames.size();
+		}
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return "NameCache{size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() + "}";
+	}
+
+	private static class Options {
+
+		private final String modelNamePrefix;
+
+		private final String modelNameSuffix;
+
+		private final Map<String, String> importMapping;
+
+		private final Set<String> reservedWords;
+
+		private final Map<String, String> reservedWordsMappings;
+
+		private final boolean ignoreImportMapping;
+
+		private final boolean allowUnicodeIdentifiers;
+
+		Options(String modelNamePrefix, String modelNameSuffix, Map<String, String> importMapping,
+				Set<String> reservedWords, Map<String, String> reservedWordsMappings, boolean ignoreImportMapping,
+				boolean allowUnicodeIdentifiers) {
+			this.modelNamePrefix = modelNamePrefix;
+			this.modelNameSuffix = modelNameSuffix;
+			this.importMapping = importMapping;
+			this.reservedWords = reservedWords;
+			this.reservedWordsMappings = reservedWordsMappings;
+			this.ignoreImportMapping = ignoreImportMapping;
+			this.allowUnicodeIdentifiers = allowUnicodeIdentifiers;
+		}
+
+		boolean matches(String modelNamePrefix, String modelNameSuffix, Map<String, String> importMapping,
+				Set<String> reservedWords, Map<String, String> reservedWordsMappings, boolean ignoreImportMapping,
+				boolean allowUnicodeIdentifiers) {
+			return this.ignoreImportMapping == ignoreImportMapping
+					&& this.allowUnicodeIdentifiers == allowUnicodeIdentifiers
+					&& Objects.equals(this.modelNamePrefix, modelNamePrefix)
+					&& Objects.equals(this.modelNameSuffix, modelNameSuffix)
+					&& this.importMapping == importMapping && this.reservedWords == reservedWords
+					&& this.reservedWordsMappings == reservedWordsMappings;
+		}
+
+	}
+
+}
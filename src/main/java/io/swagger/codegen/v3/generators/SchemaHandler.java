@@ -11,9 +11,13 @@ import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SchemaHandler implements ISchemaHandler {
 
@@ -27,7 +31,10 @@ public class SchemaHandler implements ISchemaHandler {
 
 	protected DefaultCodegenConfig codegenConfig;
 
-	private List<CodegenModel> composedModels = new ArrayList<>();
+	private final List<CodegenModel> composedModels = Collections.synchronizedList(new ArrayList<>());
+
+	// properties of the models by base name, by model class name
+	private final Map<String, PropertyIndex> propertyIndexes = new ConcurrentHashMap<>();
 
 	public SchemaHandler(DefaultCodegenConfig codegenConfig) {
 		this.codegenConfig = codegenConfig;
@@ -35,6 +42,17 @@ public class SchemaHandler implements ISchemaHandler {
 
 	@Override
 	public void processComposedSchemas(CodegenModel codegenModel, Schema schema, Map<String, CodegenModel> allModels) {
+		final CodegenEvent event = CodegenEvents.postProcessHook("processComposedSchemas", codegenModel.name);
+		try {
+			doProcessComposedSchemas(codegenModel, schema, allModels);
+		}
+		finally {
+			event.commit();
+		}
+	}
+
+	private void doProcessComposedSchemas(CodegenModel codegenModel, Schema schema,
+			Map<String, CodegenModel> allModels) {
 		if (schema instanceof ComposedSchema) {
 			this.addComposedModel(this.processComposedSchema(codegenModel, (ComposedSchema) schema, allModels));
 		}
@@ -48,13 +66,12 @@ public class SchemaHandler implements ISchemaHandler {
 		}
 		for (String name : properties.keySet()) {
 			final Schema property = properties.get(name);
-			final Optional<CodegenProperty> optionalCodegenProperty = codegenModel.getVars().stream()
-					.filter(codegenProperty -> codegenProperty.baseName.equals(name)).findFirst();
-			if (!optionalCodegenProperty.isPresent()) {
+			final CodegenProperty codegenProperty = this.findProperty(codegenModel, name);
+			if (codegenProperty == null) {
 				continue;
 			}
-			final CodegenProperty codegenProperty = optionalCodegenProperty.get();
-			final String codegenName = codegenModel.getName() + codegenConfig.toModelName(codegenProperty.getName());
+			final String codegenName = codegenModel.getName()
+					+ codegenConfig.toCachedModelName(codegenProperty.getName());
 			if (property instanceof ComposedSchema) {
 				this.addComposedModel(
 						this.processComposedSchema(codegenName, codegenProperty, (ComposedSchema) property, allModels));
@@ -194,6 +211,13 @@ public class SchemaHandler implements ISchemaHandler {
 	}
 
 	protected void addInterfaces(List<Schema> schemas, CodegenModel codegenModel, Map<String, CodegenModel> allModels) {
+		// class names of the sub types, compared ignoring case
+		final Set<String> subTypeNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		if (codegenModel.getSubTypes() != null) {
+			for (CodegenModel subType : codegenModel.getSubTypes()) {
+				subTypeNames.add(subType.classname);
+			}
+		}
 		for (Schema interfaceSchema : schemas) {
 			final String ref = interfaceSchema.get$ref();
 			if (StringUtils.isBlank(ref)) {
@@ -201,15 +225,10 @@ public class SchemaHandler implements ISchemaHandler {
 			}
 			final String schemaName = ref.substring(ref.lastIndexOf("/") + 1);
 
-			final CodegenModel model = allModels.get(codegenConfig.toModelName(schemaName));
+			final CodegenModel model = allModels.get(codegenConfig.toCachedModelName(schemaName));
 			this.addInterfaceModel(model, codegenModel);
 
-			boolean subTypeAdded = false;
-			if (codegenModel.getSubTypes() != null) {
-				subTypeAdded = codegenModel.getSubTypes().stream()
-						.anyMatch(existingSubType -> existingSubType.classname.equalsIgnoreCase(model.classname));
-			}
-			if (!subTypeAdded) {
+			if (subTypeNames.add(model.classname)) {
 				codegenModel.addSubType(model);
 			}
 
@@ -219,24 +238,41 @@ public class SchemaHandler implements ISchemaHandler {
 			}
 			if (codegenModel.getDiscriminator() != null
 					&& StringUtils.isNotBlank(codegenModel.getDiscriminator().getPropertyName())) {
-				Optional<CodegenProperty> optionalProperty = model.vars.stream()
-						.filter(codegenProperty -> codegenProperty.baseName
-								.equals(codegenModel.getDiscriminator().getPropertyName()))
-						.findFirst();
-
-				optionalProperty.ifPresent(codegenProperty -> {
+				final CodegenProperty codegenProperty = this.findProperty(model,
+						codegenModel.getDiscriminator().getPropertyName());
+				if (codegenProperty != null) {
 					codegenModel.getVendorExtensions().put("x-discriminator-type", codegenProperty.datatypeWithEnum);
 					codegenModel.getVendorExtensions().put("x-discriminator-type-getter",
 							codegenConfig.toGetter(codegenModel.getDiscriminator().getPropertyName()));
-				});
+				}
 			}
 		}
 	}
 
+	/**
+	 * Return the first property of the model with the given base name, or null. The
+	 * properties of a model are indexed on the first lookup.
+	 */
+	protected CodegenProperty findProperty(CodegenModel codegenModel, String baseName) {
+		final List<CodegenProperty> vars = codegenModel.vars;
+		if (vars == null || vars.isEmpty() || baseName == null) {
+			return null;
+		}
+		if (codegenModel.classname == null) {
+			return new PropertyIndex(vars).get(baseName);
+		}
+		PropertyIndex propertyIndex = this.propertyIndexes.get(codegenModel.classname);
+		if (propertyIndex == null || !propertyIndex.isIndexOf(vars)) {
+			propertyIndex = new PropertyIndex(vars);
+			this.propertyIndexes.put(codegenModel.classname, propertyIndex);
+		}
+		return propertyIndex.get(baseName);
+	}
+
 	protected void configureModel(CodegenModel codegenModel, String name) {
 		codegenModel.name = name;
-		codegenModel.classname = codegenConfig.toModelName(name);
-		codegenModel.classVarName = codegenConfig.toVarName(name);
+		codegenModel.classname = codegenConfig.toCachedModelName(name);
+		codegenModel.classVarName = codegenConfig.toCachedVarName(name);
 		codegenModel.classFilename = codegenConfig.toModelFilename(name);
 	}
 
@@ -256,37 +292,45 @@ public class SchemaHandler implements ISchemaHandler {
 		this.composedModels.add(composedModel);
 	}
 
-	protected void updatePropertyDataType(CodegenProperty codegenProperty, String schemaName, ArraySchema arraySchema) {
-		final Schema items = arraySchema.getItems();
+	/**
+	 * Return an array schema with items referencing the given schema, holding the parts of
+	 * the given array schema the type declarations and default values are computed from.
+	 * The given schema is left untouched.
+	 */
+	protected ArraySchema toRefItemsSchema(ArraySchema arraySchema, String schemaName) {
 		final Schema refSchema = new Schema();
 		refSchema.set$ref("#/components/schemas/" + schemaName);
-		arraySchema.setItems(refSchema);
-		codegenProperty.setDatatype(this.codegenConfig.getTypeDeclaration(arraySchema));
+		final ArraySchema refItemsSchema = new ArraySchema();
+		refItemsSchema.setName(arraySchema.getName());
+		refItemsSchema.setFormat(arraySchema.getFormat());
+		refItemsSchema.setDefault(arraySchema.getDefault());
+		refItemsSchema.setUniqueItems(arraySchema.getUniqueItems());
+		refItemsSchema.setNullable(arraySchema.getNullable());
+		refItemsSchema.setExtensions(arraySchema.getExtensions());
+		refItemsSchema.setItems(refSchema);
+		return refItemsSchema;
+	}
+
+	protected void updatePropertyDataType(CodegenProperty codegenProperty, String schemaName, ArraySchema arraySchema) {
+		final ArraySchema refItemsSchema = this.toRefItemsSchema(arraySchema, schemaName);
+		codegenProperty.setDatatype(this.codegenConfig.getTypeDeclaration(refItemsSchema));
 		codegenProperty.setDatatypeWithEnum(codegenProperty.getDatatype());
 		codegenProperty.vendorExtensions.put("x-is-composed", true);
 
-		codegenProperty.defaultValue = this.codegenConfig.toDefaultValue(arraySchema);
+		codegenProperty.defaultValue = this.codegenConfig.toDefaultValue(refItemsSchema);
 		codegenProperty.defaultValueWithParam = this.codegenConfig.toDefaultValueWithParam(codegenProperty.baseName,
-				arraySchema);
-
-		arraySchema.setItems(items);
+				refItemsSchema);
 	}
 
 	protected void updateArrayModel(CodegenModel codegenModel, String schemaName, ArraySchema arraySchema) {
-		final Schema items = arraySchema.getItems();
-		final Schema refSchema = new Schema();
-		refSchema.set$ref("#/components/schemas/" + schemaName);
-		arraySchema.setItems(refSchema);
-
-		this.codegenConfig.addParentContainer(codegenModel, codegenModel.name, arraySchema);
-		codegenModel.defaultValue = this.codegenConfig.toDefaultValue(arraySchema);
-		codegenModel.arrayModelType = this.codegenConfig.fromProperty(codegenModel.name, arraySchema).complexType;
+		final ArraySchema refItemsSchema = this.toRefItemsSchema(arraySchema, schemaName);
+		this.codegenConfig.addParentContainer(codegenModel, codegenModel.name, refItemsSchema);
+		codegenModel.defaultValue = this.codegenConfig.toDefaultValue(refItemsSchema);
+		codegenModel.arrayModelType = this.codegenConfig.fromProperty(codegenModel.name, refItemsSchema).complexType;
 		boolean isInterface = codegenModel.arrayModelType.startsWith(ALL_OF_PREFFIX)
 				|| codegenModel.arrayModelType.startsWith(ONE_OF_PREFFIX)
 				|| codegenModel.arrayModelType.startsWith(ANY_OF_PREFFIX);
 		codegenModel.getVendorExtensions().put("x-array-model-type-is-interface", isInterface);
-
-		arraySchema.setItems(items);
 	}
 
 	private void updatePropertyDataType(CodegenProperty codegenProperty, CodegenModel composedModel) {
@@ -297,4 +341,33 @@ public class SchemaHandler implements ISchemaHandler {
 		codegenProperty.vendorExtensions.put("x-is-composed", true);
 	}
 
+	private static class PropertyIndex {
+
+		private final List<CodegenProperty> vars;
+
+		private final int size;
+
+		private final Map<String, CodegenProperty> properties;
+
+		PropertyIndex(List<CodegenProperty> vars) {
+			this.vars = vars;
+			this.size = vars.size();
+			this.properties = new HashMap<>(vars.size() * 4 / 3 + 1);
+			for (CodegenProperty codegenProperty : vars) {
+				if (codegenProperty.baseName != null) {
+					this.properties.putIfAbsent(codegenProperty.baseName, codegenProperty);
+				}
+			}
+		}
+
+		boolean isIndexOf(List<CodegenProperty> vars) {
+			return this.vars == vars && this.size == vars.size();
+		}
+
+		CodegenProperty get(String baseName) {
+			return this.properties.get(baseName);
+		}
+
+	}
+
 }
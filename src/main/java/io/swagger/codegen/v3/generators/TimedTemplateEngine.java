@@ -0,0 +1,44 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.templates.TemplateEngine;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Template engine recording the renders of another one in the {@link CodegenMetrics}.
+ */
+class TimedTemplateEngine implements TemplateEngine {
+
+	private final TemplateEngine delegate;
+
+	private final CodegenMetrics metrics;
+
+	TimedTemplateEngine(TemplateEngine delegate, CodegenMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public String getRendered(String templateFile, Map<String, Object> templateData) throws IOException {
+		final CodegenMetrics.Timer timer = metrics.start(CodegenMetrics.Phase.TEMPLATES);
+		final String rendered;
+		try {
+			rendered = delegate.getRendered(templateFile, templateData);
+		}
+		finally {
+			timer.stop();
+		}
+		metrics.increment(CodegenMetrics.Counter.RENDERS);
+		if (rendered != null) {
+			metrics.add(CodegenMetrics.Counter.CHARACTERS, rendered.length());
+		}
+		return rendered;
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+}
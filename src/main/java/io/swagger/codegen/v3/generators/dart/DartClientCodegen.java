@@ -21,6 +21,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -509,7 +510,7 @@ public class DartClientCodegen extends DefaultCodegenConfig {
 
 	@Override
 	public String escapeUnsafeCharacters(String input) {
-		return input.replace("*/", "*_/").replace("/*", "/_*");
+		return TextEscaper.BLOCK_COMMENT.escape(input);
 	}
 
 	@Override
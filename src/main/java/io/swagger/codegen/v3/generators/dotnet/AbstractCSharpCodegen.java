@@ -16,6 +16,7 @@ import io.swagger.codegen.v3.generators.handlebars.lambda.LowercaseLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.TitlecaseLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.UppercaseLambda;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.codegen.v3.utils.ModelUtils;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -51,6 +52,10 @@ import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBoo
 
 public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
 
+	private static final TextEscaper UNSAFE_CHARACTERS = TextEscaper.BLOCK_COMMENT.replace("--", "- -")
+			.replace("~~N1", "\n    /// ")
+			.replace("~~N2", "\n        /// ");
+
 	protected boolean optionalAssemblyInfoFlag = true;
 
 	protected boolean optionalProjectFileFlag = true;
@@ -1148,12 +1153,7 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
 
 	@Override
 	public String escapeUnsafeCharacters(String input) {
-		String intermediate = input.replace("*/", "*_/").replace("/*", "/_*").replace("--", "- -");
-
-		intermediate = intermediate.replaceAll("~~N1", "\n    /// ");
-		intermediate = intermediate.replaceAll("~~N2", "\n        /// ");
-
-		return intermediate;
+		return UNSAFE_CHARACTERS.escape(input);
 	}
 
 	@Override
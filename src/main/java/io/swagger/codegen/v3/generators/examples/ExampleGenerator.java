@@ -1,6 +1,6 @@
 package io.swagger.codegen.v3.generators.examples;
 
-import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.RefIndex;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
@@ -20,14 +20,19 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ExampleGenerator {
 
@@ -50,17 +55,61 @@ public class ExampleGenerator {
 
 	private static final String URI = "uri";
 
+	// use a fixed seed to make the "random" numbers reproducible.
+	private static final long SEED = "ExampleGenerator".hashCode();
+
 	protected Map<String, Schema> examples;
 
 	private Random random;
 
 	private OpenAPI openAPI;
 
+	private final RefIndex refIndex;
+
+	// serialized examples of referenced schemas, by $ref and media type
+	private final Map<String, String> referencedExamples = new ConcurrentHashMap<>();
+
+	private final boolean immutable;
+
+	// examples of referenced object schemas, by $ref and media type (immutable mode)
+	private final Map<String, Object> resolvedExamples = new ConcurrentHashMap<>();
+
+	private volatile Set<String> recursiveSchemaNames;
+
 	public ExampleGenerator(OpenAPI openAPI) {
+		this(openAPI, false);
+	}
+
+	/**
+	 * @param openAPI the spec the examples are generated for
+	 * @param immutable when true the resolved examples are kept in the generator instead
+	 * of being set on the schemas of the spec. The spec is not modified, the generator
+	 * can be used from several threads and the examples don't depend on the order they
+	 * are generated in.
+	 */
+	public ExampleGenerator(OpenAPI openAPI, boolean immutable) {
+		this(openAPI, immutable, null);
+	}
+
+	/**
+	 * @param openAPI the spec the examples are generated for
+	 * @param immutable see {@link #ExampleGenerator(OpenAPI, boolean)}
+	 * @param refIndex the references of the spec, created from the spec when null
+	 */
+	public ExampleGenerator(OpenAPI openAPI, boolean immutable, RefIndex refIndex) {
 		// this.examples = examples;
 		this.openAPI = openAPI;
-		// use a fixed seed to make the "random" numbers reproducible.
-		this.random = new Random("ExampleGenerator".hashCode());
+		this.random = new Random(SEED);
+		this.immutable = immutable;
+		this.refIndex = refIndex != null ? refIndex : new RefIndex(openAPI);
+	}
+
+	public OpenAPI getOpenAPI() {
+		return openAPI;
+	}
+
+	public boolean isImmutable() {
+		return immutable;
 	}
 
 	public List<Map<String, String>> generateFromSchema(Schema schema, Set<String> producesInfo) {
@@ -92,18 +141,18 @@ public class ExampleGenerator {
 				kv.put(CONTENT_TYPE, mediaType);
 
 				if (mediaType.startsWith(MIME_TYPE_JSON)) {
-					String example = Json.pretty(resolveSchemaToExample("", mediaType, schema, processedModels));
+					String example = toJsonExample(mediaType, schema, processedModels);
 					if (example != null) {
 						kv.put(EXAMPLE, example);
 						output.add(kv);
 					}
 				}
 				else if (mediaType.startsWith(MIME_TYPE_XML)) {
-					/**
-					 * todo: add xml generator String example = new
-					 * XmlExampleGenerator(this.examples).toXml(property); if (example !=
-					 * null) { kv.put(EXAMPLE, example); output.add(kv); }
-					 */
+					String example = new XmlExampleGenerator(openAPI, refIndex).toXml(schema);
+					if (example != null) {
+						kv.put(EXAMPLE, example);
+						output.add(kv);
+					}
 				}
 			}
 		}
@@ -154,13 +203,15 @@ public class ExampleGenerator {
 					}
 				}
 				else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
-					final Schema schema = this.examples.get(modelName);
-					/**
-					 * todo: add xml example generator String example = new
-					 * XmlExampleGenerator(this.examples).toXml(schema, 0,
-					 * Collections.<String>emptySet()); if (example != null) {
-					 * kv.put(EXAMPLE, example); output.add(kv); }
-					 */
+					final Schema schema = this.examples != null ? this.examples.get(modelName)
+							: refIndex.getSchemas().get(modelName);
+					if (schema != null) {
+						String example = new XmlExampleGenerator(openAPI, refIndex).toXml(modelName, schema);
+						if (example != null) {
+							kv.put(EXAMPLE, example);
+							output.add(kv);
+						}
+					}
 				}
 			}
 		}
@@ -180,13 +231,218 @@ public class ExampleGenerator {
 		return output;
 	}
 
-	private Object resolveSchemaToExample(String propertyName, String mediaType, Schema schema,
-			Set<String> processedModels) {
-		if (processedModels.contains(schema.get$ref())) {
-			return schema.getExample();
+	/**
+	 * Serialize the example of the given schema. The examples of referenced schemas are
+	 * computed once per media type, every example starts from the same seed so that it
+	 * doesn't depend on the examples generated before.
+	 */
+	private String toJsonExample(String mediaType, Schema schema, Set<String> processedModels) {
+		final String ref = schema.get$ref();
+		if (StringUtils.isBlank(ref)) {
+			return Json.pretty(resolveExample(mediaType, schema, processedModels));
 		}
-		if (StringUtils.isNotBlank(schema.get$ref())) {
-			processedModels.add(schema.get$ref());
+		final String key = ref + " " + mediaType;
+		String example = referencedExamples.get(key);
+		if (example == null) {
+			example = Json.pretty(resolveExample(mediaType, schema, processedModels));
+			if (example != null) {
+				referencedExamples.put(key, example);
+			}
+		}
+		return example;
+	}
+
+	private Object resolveExample(String mediaType, Schema schema, Set<String> processedModels) {
+		if (immutable) {
+			return resolveSchemaToExample("", mediaType, schema, new ExampleContext(new Random(SEED), null));
+		}
+		random.setSeed(SEED);
+		return resolveSchemaToExample("", mediaType, schema, new ExampleContext(random, processedModels));
+	}
+
+	/**
+	 * Resolve the example of a referenced schema in immutable mode. Every referenced
+	 * schema is resolved with its own random numbers, and examples of referenced object
+	 * schemas not part of a cycle are memoized, as they are the same wherever the schema
+	 * is referenced from.
+	 */
+	private Object resolveReferencedExample(String propertyName, String mediaType, String ref, Schema model,
+			ExampleContext context) {
+		if (context.refs.contains(ref)) {
+			// recursive reference
+			return null;
+		}
+		final boolean memoize = isObjectExample(model)
+				&& !getRecursiveSchemaNames().contains(refIndex.getSimpleRef(ref));
+		final String key = ref + " " + mediaType;
+		if (memoize) {
+			final Object example = resolvedExamples.get(key);
+			if (example != null) {
+				return example;
+			}
+		}
+		final Random random = context.random;
+		context.random = new Random(SEED);
+		context.refs.push(ref);
+		Object example = resolveSchemaToExample(propertyName, mediaType, model, context);
+		context.refs.pop();
+		context.random = random;
+		if (memoize && example != null) {
+			final Object existingExample = resolvedExamples.putIfAbsent(key, example);
+			if (existingExample != null) {
+				example = existingExample;
+			}
+		}
+		return example;
+	}
+
+	/**
+	 * Check if the example of the given schema is built from its properties, and does not
+	 * depend on the name of the property referencing it.
+	 */
+	private static boolean isObjectExample(Schema schema) {
+		if (schema.getExample() != null || StringUtils.isNotEmpty(schema.get$ref())) {
+			return false;
+		}
+		if (schema instanceof StringSchema || schema instanceof BooleanSchema || schema instanceof ArraySchema
+				|| schema instanceof DateSchema || schema instanceof DateTimeSchema || schema instanceof NumberSchema
+				|| schema instanceof FileSchema || schema instanceof IntegerSchema || schema instanceof MapSchema) {
+			return false;
+		}
+		return schema instanceof ObjectSchema || schema.getProperties() != null;
+	}
+
+	/**
+	 * Names of the component schemas referencing themselves, directly or through other
+	 * schemas. Their examples depend on where the recursion is cut, so they are not
+	 * memoized.
+	 */
+	private Set<String> getRecursiveSchemaNames() {
+		Set<String> names = recursiveSchemaNames;
+		if (names == null) {
+			synchronized (this) {
+				names = recursiveSchemaNames;
+				if (names == null) {
+					final Map<String, Set<String>> references = new HashMap<>();
+					for (Map.Entry<String, Schema> entry : refIndex.getSchemas().entrySet()) {
+						final Set<String> referencedNames = new HashSet<>();
+						collectReferencedNames(entry.getValue(), referencedNames,
+								Collections.newSetFromMap(new IdentityHashMap<>()));
+						references.put(entry.getKey(), referencedNames);
+					}
+					names = findRecursiveNames(references);
+					recursiveSchemaNames = names;
+				}
+			}
+		}
+		return names;
+	}
+
+	private void collectReferencedNames(Schema schema, Set<String> referencedNames, Set<Schema> visited) {
+		if (schema == null || !visited.add(schema)) {
+			return;
+		}
+		if (StringUtils.isNotEmpty(schema.get$ref())) {
+			referencedNames.add(refIndex.getSimpleRef(schema.get$ref()));
+			return;
+		}
+		if (schema.getProperties() != null) {
+			for (Object property : schema.getProperties().values()) {
+				collectReferencedNames((Schema) property, referencedNames, visited);
+			}
+		}
+		if (schema instanceof ArraySchema) {
+			collectReferencedNames(((ArraySchema) schema).getItems(), referencedNames, visited);
+		}
+		if (schema.getAdditionalProperties() instanceof Schema) {
+			collectReferencedNames((Schema) schema.getAdditionalProperties(), referencedNames, visited);
+		}
+	}
+
+	/**
+	 * Find the nodes of the given graph that are part of a cycle (Tarjan's strongly
+	 * connected components, without recursion so deep schema chains can't overflow the
+	 * stack).
+	 */
+	private static Set<String> findRecursiveNames(Map<String, Set<String>> references) {
+		final Set<String> recursiveNames = new HashSet<>();
+		final Map<String, Integer> index = new HashMap<>();
+		final Map<String, Integer> lowLink = new HashMap<>();
+		final Deque<String> stack = new ArrayDeque<>();
+		final Set<String> onStack = new HashSet<>();
+		int counter = 0;
+		for (String root : references.keySet()) {
+			if (index.containsKey(root)) {
+				continue;
+			}
+			final Deque<String> path = new ArrayDeque<>();
+			final Deque<Iterator<String>> successors = new ArrayDeque<>();
+			index.put(root, counter);
+			lowLink.put(root, counter++);
+			stack.push(root);
+			onStack.add(root);
+			path.push(root);
+			successors.push(references.get(root).iterator());
+			while (!path.isEmpty()) {
+				final String node = path.peek();
+				final Iterator<String> iterator = successors.peek();
+				if (iterator.hasNext()) {
+					final String next = iterator.next();
+					if (!references.containsKey(next)) {
+						continue;
+					}
+					if (!index.containsKey(next)) {
+						index.put(next, counter);
+						lowLink.put(next, counter++);
+						stack.push(next);
+						onStack.add(next);
+						path.push(next);
+						successors.push(references.get(next).iterator());
+					}
+					else if (onStack.contains(next)) {
+						lowLink.put(node, Math.min(lowLink.get(node), index.get(next)));
+					}
+					continue;
+				}
+				path.pop();
+				successors.pop();
+				if (!path.isEmpty()) {
+					final String parent = path.peek();
+					lowLink.put(parent, Math.min(lowLink.get(parent), lowLink.get(node)));
+				}
+				if (lowLink.get(node).equals(index.get(node))) {
+					final List<String> component = new ArrayList<>();
+					String member;
+					do {
+						member = stack.pop();
+						onStack.remove(member);
+						component.add(member);
+					}
+					while (!member.equals(node));
+					if (component.size() > 1 || references.get(node).contains(node)) {
+						recursiveNames.addAll(component);
+					}
+				}
+			}
+		}
+		return recursiveNames;
+	}
+
+	/**
+	 * Resolve the example of a schema. In immutable mode, examples are not set on the
+	 * schemas and references are resolved by
+	 * {@link #resolveReferencedExample(String, String, String, Schema, ExampleContext)}.
+	 */
+	private Object resolveSchemaToExample(String propertyName, String mediaType, Schema schema,
+			ExampleContext context) {
+		final Set<String> processedModels = context.processedModels;
+		if (!immutable) {
+			if (processedModels.contains(schema.get$ref())) {
+				return schema.getExample();
+			}
+			if (StringUtils.isNotBlank(schema.get$ref())) {
+				processedModels.add(schema.get$ref());
+			}
 		}
 		if (schema.getExample() != null) {
 			logger.debug("Example set in swagger spec, returning example: '{}'", schema.getExample().toString());
@@ -228,7 +484,7 @@ public class ExampleGenerator {
 					arrayLength = 10;
 				}
 				Object[] objectProperties = new Object[arrayLength];
-				Object objProperty = resolveSchemaToExample(propertyName, mediaType, innerType, processedModels);
+				Object objProperty = resolveSchemaToExample(propertyName, mediaType, innerType, context);
 				for (int i = 0; i < arrayLength; i++) {
 					objectProperties[i] = objProperty;
 				}
@@ -245,9 +501,9 @@ public class ExampleGenerator {
 			Double min = schema.getMinimum() == null ? null : schema.getMinimum().doubleValue();
 			Double max = schema.getMaximum() == null ? null : schema.getMaximum().doubleValue();
 			if (SchemaTypeUtil.FLOAT_FORMAT.equals(schema.getFormat())) {
-				return (float) randomNumber(min, max);
+				return (float) randomNumber(context.random, min, max);
 			}
-			return randomNumber(min, max);
+			return randomNumber(context.random, min, max);
 		}
 		else if (schema instanceof FileSchema) {
 			return ""; // TODO
@@ -256,34 +512,33 @@ public class ExampleGenerator {
 			Double min = schema.getMinimum() == null ? null : schema.getMinimum().doubleValue();
 			Double max = schema.getMaximum() == null ? null : schema.getMaximum().doubleValue();
 			if (SchemaTypeUtil.INTEGER32_FORMAT.equals(schema.getFormat())) {
-				return (long) randomNumber(min, max);
+				return (long) randomNumber(context.random, min, max);
 			}
-			return (int) randomNumber(min, max);
+			return (int) randomNumber(context.random, min, max);
 		}
 		else if (schema instanceof MapSchema && schema.getAdditionalProperties() != null
 				&& schema.getAdditionalProperties() instanceof Schema) {
 			Map<String, Object> mp = new HashMap<String, Object>();
 			if (schema.getName() != null) {
 				mp.put(schema.getName(), resolveSchemaToExample(propertyName, mediaType,
-						(Schema) schema.getAdditionalProperties(), processedModels));
+						(Schema) schema.getAdditionalProperties(), context));
 			}
 			else {
 				mp.put("key", resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(),
-						processedModels));
+						context));
 			}
 			return mp;
 		}
 		else if (!StringUtils.isEmpty(schema.get$ref())) { // model
-			String simpleName = OpenAPIUtil.getSimpleRef(schema.get$ref());
-			Schema model = null;
-			if (openAPI != null && openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
-				model = openAPI.getComponents().getSchemas().get(simpleName);
-			}
+			Schema model = refIndex.getSchema(schema.get$ref());
 
 			if (model == null) { // couldn't find the model/schema
 				return "{}";
 			}
-			return resolveSchemaToExample(propertyName, mediaType, model, processedModels);
+			if (immutable) {
+				return resolveReferencedExample(propertyName, mediaType, schema.get$ref(), model, context);
+			}
+			return resolveSchemaToExample(propertyName, mediaType, model, context);
 		}
 		else if (schema instanceof ObjectSchema || schema.getProperties() != null) {
 			Map<String, Object> values = new HashMap<>();
@@ -292,9 +547,11 @@ public class ExampleGenerator {
 				for (Object propName : schema.getProperties().keySet()) {
 					Schema schemaProperty = (Schema) schema.getProperties().get(propName.toString());
 					values.put(propName.toString(),
-							resolveSchemaToExample(propName.toString(), mediaType, schemaProperty, processedModels));
+							resolveSchemaToExample(propName.toString(), mediaType, schemaProperty, context));
+				}
+				if (!immutable) {
+					schema.setExample(values);
 				}
-				schema.setExample(values);
 			}
 			return values;
 		}
@@ -304,7 +561,7 @@ public class ExampleGenerator {
 		return "";
 	}
 
-	private double randomNumber(Double min, Double max) {
+	private static double randomNumber(Random random, Double min, Double max) {
 		if (min != null && max != null) {
 			double range = max - min;
 			return random.nextDouble() * range + min;
@@ -337,14 +594,32 @@ public class ExampleGenerator {
 		}
 		else if (schema.getProperties() != null) {
 			logger.debug("Creating example from model values");
+			final ExampleContext context = new ExampleContext(random, processedModels);
 			for (Object propertyName : schema.getProperties().keySet()) {
 				schema.getProperties().get(propertyName.toString());
 				values.put(propertyName.toString(),
-						resolveSchemaToExample(propertyName.toString(), mediaType, schema, processedModels));
+						resolveSchemaToExample(propertyName.toString(), mediaType, schema, context));
 			}
 			schema.setExample(values);
 		}
 		return values;
 	}
 
+	private static class ExampleContext {
+
+		// references resolved so far, their examples are set on the schemas (legacy mode)
+		private final Set<String> processedModels;
+
+		// references being resolved, to cut recursive references (immutable mode)
+		private final Deque<String> refs = new ArrayDeque<>();
+
+		private Random random;
+
+		ExampleContext(Random random, Set<String> processedModels) {
+			this.random = random;
+			this.processedModels = processedModels;
+		}
+
+	}
+
 }
@@ -0,0 +1,338 @@
+package io.swagger.codegen.v3.generators.examples;
+
+import io.swagger.codegen.v3.generators.util.RefIndex;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.DateSchema;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.UUIDSchema;
+import io.swagger.v3.oas.models.media.XML;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes XML examples of schemas. Elements are streamed to the writer as the schema is
+ * walked, honouring the xml name, prefix, namespace, attribute and wrapped settings of
+ * the schemas.
+ */
+public class XmlExampleGenerator {
+
+	private static final Logger logger = LoggerFactory.getLogger(XmlExampleGenerator.class);
+
+	private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+	private static final String DEFAULT_ELEMENT_NAME = "element";
+
+	private static final String INDENT = "  ";
+
+	private static final int MAX_ITEMS = 10;
+
+	private final RefIndex refIndex;
+
+	public XmlExampleGenerator(OpenAPI openAPI) {
+		this(openAPI, new RefIndex(openAPI));
+	}
+
+	public XmlExampleGenerator(OpenAPI openAPI, RefIndex refIndex) {
+		this.refIndex = refIndex != null ? refIndex : new RefIndex(openAPI);
+	}
+
+	/**
+	 * Return the XML example of the given schema, or null if it could not be written.
+	 */
+	public String toXml(Schema schema) {
+		return toXml(null, schema);
+	}
+
+	/**
+	 * Return the XML example of the given schema, or null if it could not be written.
+	 * @param name the name of the root element if the schema has no xml name
+	 * @param schema the schema
+	 */
+	public String toXml(String name, Schema schema) {
+		final StringWriter writer = new StringWriter();
+		try {
+			write(name, schema, writer);
+		}
+		catch (XMLStreamException e) {
+			logger.warn("Could not write xml example of schema {}", schema, e);
+			return null;
+		}
+		return writer.toString();
+	}
+
+	/**
+	 * Write the XML example of the given schema to the writer. The writer is not closed.
+	 * @param name the name of the root element if the schema has no xml name
+	 * @param schema the schema
+	 * @param writer the writer
+	 */
+	public void write(String name, Schema schema, Writer writer) throws XMLStreamException {
+		final XMLStreamWriter xmlWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(writer);
+		try {
+			final Deque<String> refs = new ArrayDeque<>();
+			final Schema model = resolve(schema, refs);
+			if (model == null) {
+				return;
+			}
+			writeElement(xmlWriter, getElementName(schema, model, name), model, 0, refs);
+			xmlWriter.flush();
+		}
+		finally {
+			xmlWriter.close();
+		}
+	}
+
+	private void writeElement(XMLStreamWriter xmlWriter, String name, Schema schema, int depth, Deque<String> refs)
+			throws XMLStreamException {
+		if (schema instanceof ArraySchema) {
+			writeArray(xmlWriter, name, (ArraySchema) schema, depth, refs);
+			return;
+		}
+		startElement(xmlWriter, name, schema.getXml(), depth);
+		final Map<String, Schema> properties = getProperties(schema, refs);
+		if (properties.isEmpty()) {
+			xmlWriter.writeCharacters(getValue(name, schema));
+			xmlWriter.writeEndElement();
+			return;
+		}
+		final List<Map.Entry<String, Schema>> elements = new ArrayList<>();
+		for (Map.Entry<String, Schema> property : properties.entrySet()) {
+			final XML xml = property.getValue().getXml();
+			if (xml != null && Boolean.TRUE.equals(xml.getAttribute())) {
+				writeAttribute(xmlWriter, getXmlName(xml, property.getKey()), xml,
+						getValue(property.getKey(), property.getValue()));
+			}
+			else {
+				elements.add(property);
+			}
+		}
+		for (Map.Entry<String, Schema> element : elements) {
+			final Schema property = element.getValue();
+			final Schema model = resolve(property, refs);
+			if (model == null) {
+				// recursive reference
+				continue;
+			}
+			writeElement(xmlWriter, getElementName(property, model, element.getKey()), model, depth + 1, refs);
+			if (StringUtils.isNotEmpty(property.get$ref())) {
+				refs.pop();
+			}
+		}
+		indent(xmlWriter, depth);
+		xmlWriter.writeEndElement();
+	}
+
+	private void writeArray(XMLStreamWriter xmlWriter, String name, ArraySchema schema, int depth,
+			Deque<String> refs) throws XMLStreamException {
+		final Schema items = schema.getItems();
+		if (items == null) {
+			return;
+		}
+		final XML xml = schema.getXml();
+		// an XML document has a single root element, root arrays are always wrapped
+		final boolean root = depth == 0;
+		final boolean wrapped = root || xml != null && Boolean.TRUE.equals(xml.getWrapped());
+		int itemDepth = depth;
+		if (wrapped) {
+			startElement(xmlWriter, name, xml, depth);
+			itemDepth++;
+		}
+		final Schema model = resolve(items, refs);
+		if (model != null) {
+			final String itemName = root ? getElementName(items, model, null) : getItemName(items, model, name);
+			int arrayLength = schema.getMaxItems() != null ? schema.getMaxItems() : 2;
+			if (arrayLength > MAX_ITEMS) {
+				arrayLength = MAX_ITEMS;
+			}
+			for (int i = 0; i < arrayLength; i++) {
+				writeElement(xmlWriter, itemName, model, itemDepth, refs);
+			}
+			if (StringUtils.isNotEmpty(items.get$ref())) {
+				refs.pop();
+			}
+		}
+		if (wrapped) {
+			indent(xmlWriter, depth);
+			xmlWriter.writeEndElement();
+		}
+	}
+
+	private void startElement(XMLStreamWriter xmlWriter, String name, XML xml, int depth)
+			throws XMLStreamException {
+		if (depth > 0) {
+			indent(xmlWriter, depth);
+		}
+		final String namespace = xml == null ? null : xml.getNamespace();
+		final String prefix = xml == null ? null : xml.getPrefix();
+		if (StringUtils.isEmpty(namespace)) {
+			if (StringUtils.isNotEmpty(prefix)) {
+				xmlWriter.writeStartElement(prefix + ":" + name);
+			}
+			else {
+				xmlWriter.writeStartElement(name);
+			}
+			return;
+		}
+		if (StringUtils.isNotEmpty(prefix)) {
+			xmlWriter.writeStartElement(prefix, name, namespace);
+			xmlWriter.writeNamespace(prefix, namespace);
+		}
+		else {
+			xmlWriter.writeStartElement("", name, namespace);
+			xmlWriter.writeDefaultNamespace(namespace);
+		}
+	}
+
+	private void writeAttribute(XMLStreamWriter xmlWriter, String name, XML xml, String value)
+			throws XMLStreamException {
+		final String namespace = xml.getNamespace();
+		final String prefix = xml.getPrefix();
+		if (StringUtils.isNotEmpty(namespace) && StringUtils.isNotEmpty(prefix)) {
+			xmlWriter.writeNamespace(prefix, namespace);
+			xmlWriter.writeAttribute(prefix, namespace, name, value);
+		}
+		else {
+			xmlWriter.writeAttribute(name, value);
+		}
+	}
+
+	private void indent(XMLStreamWriter xmlWriter, int depth) throws XMLStreamException {
+		final StringBuilder indent = new StringBuilder(1 + depth * INDENT.length()).append('\n');
+		for (int i = 0; i < depth; i++) {
+			indent.append(INDENT);
+		}
+		xmlWriter.writeCharacters(indent.toString());
+	}
+
+	/**
+	 * Resolve the given schema to the referenced component schema. The reference is kept
+	 * on the stack until the caller is done with it, null is returned for recursive or
+	 * missing references.
+	 */
+	private Schema resolve(Schema schema, Deque<String> refs) {
+		final String ref = schema.get$ref();
+		if (StringUtils.isEmpty(ref)) {
+			return schema;
+		}
+		if (refs.contains(ref)) {
+			return null;
+		}
+		final Schema model = refIndex.getSchema(ref);
+		if (model == null) {
+			return null;
+		}
+		refs.push(ref);
+		return model;
+	}
+
+	private Map<String, Schema> getProperties(Schema schema, Deque<String> refs) {
+		if (!(schema instanceof ComposedSchema) || ((ComposedSchema) schema).getAllOf() == null) {
+			return schema.getProperties() == null ? Collections.emptyMap() : schema.getProperties();
+		}
+		final Map<String, Schema> properties = new LinkedHashMap<>();
+		for (Schema allOf : ((ComposedSchema) schema).getAllOf()) {
+			final Schema model = resolve(allOf, refs);
+			if (model == null) {
+				continue;
+			}
+			properties.putAll(getProperties(model, refs));
+			if (StringUtils.isNotEmpty(allOf.get$ref())) {
+				refs.pop();
+			}
+		}
+		if (schema.getProperties() != null) {
+			properties.putAll(schema.getProperties());
+		}
+		return properties;
+	}
+
+	private String getElementName(Schema schema, Schema model, String propertyName) {
+		if (schema.getXml() != null && StringUtils.isNotEmpty(schema.getXml().getName())) {
+			return schema.getXml().getName();
+		}
+		if (propertyName != null) {
+			return propertyName;
+		}
+		if (model.getXml() != null && StringUtils.isNotEmpty(model.getXml().getName())) {
+			return model.getXml().getName();
+		}
+		if (StringUtils.isNotEmpty(schema.get$ref())) {
+			return refIndex.getSimpleRef(schema.get$ref());
+		}
+		return StringUtils.isNotEmpty(model.getName()) ? model.getName() : DEFAULT_ELEMENT_NAME;
+	}
+
+	/**
+	 * Items are named after their own xml name, or after the array.
+	 */
+	private String getItemName(Schema items, Schema model, String arrayName) {
+		if (items.getXml() != null && StringUtils.isNotEmpty(items.getXml().getName())) {
+			return items.getXml().getName();
+		}
+		if (model.getXml() != null && StringUtils.isNotEmpty(model.getXml().getName())) {
+			return model.getXml().getName();
+		}
+		return arrayName;
+	}
+
+	private String getXmlName(XML xml, String name) {
+		return StringUtils.isNotEmpty(xml.getName()) ? xml.getName() : name;
+	}
+
+	private String getValue(String name, Schema schema) {
+		final Object example = schema.getExample();
+		if (example instanceof String || example instanceof Number || example instanceof Boolean) {
+			return example.toString();
+		}
+		if (schema.getDefault() != null) {
+			return schema.getDefault().toString();
+		}
+		if (schema.getEnum() != null && !schema.getEnum().isEmpty()) {
+			return String.valueOf(schema.getEnum().get(0));
+		}
+		if (schema instanceof BooleanSchema) {
+			return "true";
+		}
+		if (schema instanceof DateSchema) {
+			return "2000-01-23";
+		}
+		if (schema instanceof DateTimeSchema) {
+			return "2000-01-23T04:56:07.000Z";
+		}
+		if (schema instanceof IntegerSchema) {
+			return "123";
+		}
+		if (schema instanceof NumberSchema) {
+			return "1.3579";
+		}
+		if (schema instanceof UUIDSchema) {
+			return "046b6c7f-0b8a-43b9-b35d-6489e6daee91";
+		}
+		if (schema instanceof StringSchema) {
+			return "aeiou";
+		}
+		return name == null ? "" : name;
+	}
+
+}
@@ -11,6 +11,7 @@ import io.swagger.codegen.v3.ISchemaHandler;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.generators.SchemaHandler;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -483,7 +484,7 @@ public abstract class AbstractGoCodegen extends DefaultCodegenConfig {
 
 	@Override
 	public String escapeUnsafeCharacters(String input) {
-		return input.replace("*/", "*_/").replace("/*", "/_*");
+		return TextEscaper.BLOCK_COMMENT.escape(input);
 	}
 
 	public Map<String, String> createMapping(String key, String value) {
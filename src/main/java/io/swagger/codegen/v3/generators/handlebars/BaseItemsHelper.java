@@ -5,6 +5,8 @@ import com.github.jknack.handlebars.Options;
 import com.github.jknack.handlebars.Options.Buffer;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.codegen.v3.generators.CodegenEvent;
+import io.swagger.codegen.v3.generators.CodegenEvents;
 
 import java.io.IOException;
 
@@ -16,22 +18,22 @@ public class BaseItemsHelper implements Helper<CodegenProperty> {
 
 	@Override
 	public Object apply(CodegenProperty codegenProperty, Options options) throws IOException {
+		final CodegenEvent event = CodegenEvents.fragmentRender(getClass());
 		final Buffer buffer = options.buffer();
-
-		if (codegenProperty == null) {
-			buffer.append(options.inverse());
+		try {
+			CodegenProperty baseItems = codegenProperty == null ? null : getBaseItemsProperty(codegenProperty);
+
+			if (baseItems != null) {
+				buffer.append(options.fn(baseItems));
+			}
+			else {
+				buffer.append(options.inverse());
+			}
 			return buffer;
 		}
-
-		CodegenProperty baseItems = getBaseItemsProperty(codegenProperty);
-
-		if (baseItems != null) {
-			buffer.append(options.fn(baseItems));
-		}
-		else {
-			buffer.append(options.inverse());
+		finally {
+			event.size(buffer.length()).commit();
 		}
-		return buffer;
 	}
 
 	public static CodegenProperty getBaseItemsProperty(CodegenProperty property) {
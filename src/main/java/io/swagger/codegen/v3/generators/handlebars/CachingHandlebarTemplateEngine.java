@@ -0,0 +1,147 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
+import com.github.jknack.handlebars.io.TemplateSource;
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.generators.CodegenEvent;
+import io.swagger.codegen.v3.generators.CodegenEvents;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.templates.CodegenTemplateLoader;
+import io.swagger.codegen.v3.templates.TemplateEngine;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handlebars template engine keeping the compiled templates in a
+ * {@link CompiledTemplateCache}, so the templates are compiled once per process instead
+ * of once per generation. Templates are resolved like the default handlebars engine,
+ * from the custom template directory first. The resolved templates are kept for the
+ * lifetime of the engine, their content is read and hashed again when it is modified.
+ */
+public class CachingHandlebarTemplateEngine implements TemplateEngine {
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private final CodegenConfig config;
+
+	private final CompiledTemplateCache cache;
+
+	// resolved templates by context and location
+	private final Map<String, ResolvedTemplate> resolvedTemplates = new ConcurrentHashMap<>();
+
+	public CachingHandlebarTemplateEngine(CodegenConfig config) {
+		this(config, CompiledTemplateCache.getShared());
+	}
+
+	public CachingHandlebarTemplateEngine(CodegenConfig config, CompiledTemplateCache cache) {
+		this.config = config;
+		this.cache = cache;
+	}
+
+	@Override
+	public String getRendered(String templateFile, Map<String, Object> templateData) throws IOException {
+		final CodegenEvent event = CodegenEvents.templateRender(templateFile);
+		String rendered = null;
+		try {
+			rendered = getTemplate(templateFile).apply(templateData);
+			return rendered;
+		}
+		finally {
+			event.size(rendered == null ? 0 : rendered.length()).commit();
+		}
+	}
+
+	@Override
+	public String getName() {
+		return CodegenConstants.HANDLEBARS_TEMPLATE_ENGINE;
+	}
+
+	public CompiledTemplateCache getCache() {
+		return cache;
+	}
+
+	protected Template getTemplate(String templateFile) throws IOException {
+		final String templateDir = config.templateDir().replace("\\", "/");
+		final String customTemplateDir = config.customTemplateDir() != null
+				? config.customTemplateDir().replace("\\", "/") : null;
+		final String commonTemplateDir = config instanceof DefaultCodegenConfig
+				? ((DefaultCodegenConfig) config).getCommonTemplateDir() : null;
+		final String context = getName() + "|" + config.getClass().getName() + "|" + templateDir + "|"
+				+ customTemplateDir + "|" + commonTemplateDir;
+		final Handlebars handlebars = cache.getHandlebars(context,
+				() -> createHandlebars(templateDir, customTemplateDir));
+
+		final String location = templateFile.replace("\\", "/").replace(templateDir, StringUtils.EMPTY);
+		final String resolvedTemplateKey = context + "|" + location;
+		ResolvedTemplate resolvedTemplate = resolvedTemplates.get(resolvedTemplateKey);
+		if (resolvedTemplate == null || resolvedTemplate.isModified()) {
+			final TemplateSource source = resolvedTemplate == null ? handlebars.getLoader().sourceAt(location)
+					: resolvedTemplate.source;
+			resolvedTemplate = new ResolvedTemplate(context, source);
+			resolvedTemplates.put(resolvedTemplateKey, resolvedTemplate);
+		}
+		final TemplateSource source = resolvedTemplate.source;
+		return cache.get(resolvedTemplate.key, () -> handlebars.compile(source));
+	}
+
+	protected Handlebars createHandlebars(String templateDir, String customTemplateDir) {
+		final CodegenTemplateLoader templateLoader = new CodegenTemplateLoader().templateDir(templateDir)
+				.customTemplateDir(customTemplateDir);
+		// partials are compiled once, and again when their source is modified
+		final Handlebars handlebars = new Handlebars(templateLoader)
+				.with(new ConcurrentMapTemplateCache().setReload(true));
+		handlebars.prettyPrint(true);
+		config.addHandlebarHelpers(handlebars);
+		return handlebars;
+	}
+
+	static String hash(String content) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+		final byte[] bytes = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+		final char[] hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+			hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xf];
+		}
+		return new String(hex);
+	}
+
+	private static class ResolvedTemplate {
+
+		private final TemplateSource source;
+
+		private final long lastModified;
+
+		private final CompiledTemplateCache.Key key;
+
+		ResolvedTemplate(String context, TemplateSource source) throws IOException {
+			this.source = source;
+			// read before the content, so a concurrent modification is hashed again
+			this.lastModified = source.lastModified();
+			this.key = new CompiledTemplateCache.Key(context, source.filename(),
+					hash(source.content(StandardCharsets.UTF_8)));
+		}
+
+		boolean isModified() {
+			return source.lastModified() != lastModified;
+		}
+
+	}
+
+}
@@ -0,0 +1,204 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Process wide cache of compiled templates, shared by the generations of a process.
+ * Templates are keyed by engine, generator, template directories, resolved template
+ * path and content hash, so a changed template is compiled again. The least recently
+ * used templates are evicted once the cache is full.
+ */
+public class CompiledTemplateCache {
+
+	public static final int DEFAULT_MAX_SIZE = 2048;
+
+	private static final CompiledTemplateCache SHARED = new CompiledTemplateCache(DEFAULT_MAX_SIZE);
+
+	private final LruMap<Key, Template> templates;
+
+	private final LruMap<String, Handlebars> handlebars;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	public CompiledTemplateCache(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+		}
+		this.templates = new LruMap<>(maxSize, evictions);
+		this.handlebars = new LruMap<>(maxSize, new LongAdder());
+	}
+
+	/**
+	 * Return the cache shared by all generations of the process.
+	 */
+	public static CompiledTemplateCache getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * Return the cached template of the given key, compiling it on a miss. Templates are
+	 * compiled outside of the cache lock, concurrent misses keep the first template.
+	 * @param key the template key
+	 * @param compiler compiles the template on a miss
+	 * @return the compiled template
+	 */
+	public Template get(Key key, TemplateCompiler compiler) throws IOException {
+		Template template;
+		synchronized (templates) {
+			template = templates.get(key);
+		}
+		if (template != null) {
+			hits.increment();
+			return template;
+		}
+		misses.increment();
+		final Template compiledTemplate = compiler.compile();
+		synchronized (templates) {
+			template = templates.get(key);
+			if (template == null) {
+				templates.put(key, compiledTemplate);
+				template = compiledTemplate;
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * Return the handlebars instance of the given context, e.g. generator and template
+	 * directories, creating it on a miss. Partials are cached by the instance.
+	 */
+	public Handlebars getHandlebars(String context, Supplier<Handlebars> factory) {
+		synchronized (handlebars) {
+			return handlebars.computeIfAbsent(context, key -> factory.get());
+		}
+	}
+
+	public void clear() {
+		synchronized (templates) {
+			templates.clear();
+		}
+		synchronized (handlebars) {
+			handlebars.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (templates) {
+			return templates.size();
+		}
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Return the ratio of lookups served from the cache, 0 before the first lookup.
+	 */
+	public double getHitRate() {
+		final long hitCount = getHits();
+		final long lookups = hitCount + getMisses();
+		return lookups == 0 ? 0 : (double) hitCount / lookups;
+	}
+
+	@Override
+	public String toString() {
+		return "CompiledTemplateCache{size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses()
+				+ ", evictions=" + getEvictions() + "}";
+	}
+
+	@FunctionalInterface
+	public interface TemplateCompiler {
+
+		Template compile() throws IOException;
+
+	}
+
+	public static final class Key {
+
+		private final String context;
+
+		private final String templatePath;
+
+		private final String contentHash;
+
+		/**
+		 * @param context the engine, generator and template directories
+		 * @param templatePath the resolved path of the template
+		 * @param contentHash the hash of the template content
+		 */
+		public Key(String context, String templatePath, String contentHash) {
+			this.context = context;
+			this.templatePath = templatePath;
+			this.contentHash = contentHash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return Objects.equals(context, key.context) && Objects.equals(templatePath, key.templatePath)
+					&& Objects.equals(contentHash, key.contentHash);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(context, templatePath, contentHash);
+		}
+
+		@Override
+		public String toString() {
+			return context + ":" + templatePath + "@" + contentHash;
+		}
+
+	}
+
+	private static class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+		private final int maxSize;
+
+		private final LongAdder evictions;
+
+		LruMap(int maxSize, LongAdder evictions) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+			this.evictions = evictions;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			if (size() > maxSize) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+
+	}
+
+}
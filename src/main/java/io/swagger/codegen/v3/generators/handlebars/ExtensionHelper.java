@@ -4,43 +4,70 @@ import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
 import com.github.jknack.handlebars.Options.Buffer;
 import io.swagger.codegen.v3.VendorExtendable;
+import io.swagger.codegen.v3.generators.CodegenEvent;
+import io.swagger.codegen.v3.generators.CodegenEvents;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class ExtensionHelper implements Helper<VendorExtendable> {
 
+	// extension keys by helper parameter
+	private final Map<String, String> extensionKeys = new ConcurrentHashMap<>();
+
 	public abstract String getPreffix();
 
 	@Override
 	public Object apply(VendorExtendable vendor, Options options) throws IOException {
+		final CodegenEvent event = CodegenEvents.fragmentRender(getClass());
 		final Buffer buffer = options.buffer();
-
-		if (vendor == null) {
-			buffer.append(options.inverse());
+		try {
+			if (vendor == null) {
+				buffer.append(options.inverse());
+			}
+			else if (!getBooleanValue(vendor, getExtensionKey(extensionKeys, getPreffix(), options.param(0)))) {
+				buffer.append(options.inverse());
+			}
+			else {
+				buffer.append(options.fn());
+			}
 			return buffer;
 		}
-		final String param = options.param(0);
-		String extension = getPreffix() + param;
-
-		if (!getBooleanValue(vendor, extension)) {
-			buffer.append(options.inverse());
+		finally {
+			event.size(buffer.length()).commit();
 		}
-		else {
-			buffer.append(options.fn());
-		}
-		return buffer;
 	}
 
 	public static boolean getBooleanValue(VendorExtendable vendorExtendable, String extensionKey) {
 		if (vendorExtendable == null) {
 			return false;
 		}
-		Map<String, Object> vendorExtensions = vendorExtendable.getVendorExtensions();
-		if (vendorExtensions.get(extensionKey) == null) {
+		final Object value = vendorExtendable.getVendorExtensions().get(extensionKey);
+		if (value == null) {
 			return false;
 		}
-		return Boolean.parseBoolean(vendorExtensions.get(extensionKey).toString());
+		if (value instanceof Boolean) {
+			return (Boolean) value;
+		}
+		return Boolean.parseBoolean(value.toString());
+	}
+
+	/**
+	 * Return the extension key of the given helper parameter, computed once per
+	 * parameter. Keys are interned, like the extension constants they are looked up
+	 * against.
+	 */
+	static String getExtensionKey(Map<String, String> extensionKeys, String prefix, String param) {
+		if (param == null) {
+			return prefix + param;
+		}
+		String extensionKey = extensionKeys.get(param);
+		if (extensionKey == null) {
+			extensionKey = (prefix + param).intern();
+			extensionKeys.put(param, extensionKey);
+		}
+		return extensionKey;
 	}
 
 }
@@ -3,32 +3,42 @@ package io.swagger.codegen.v3.generators.handlebars;
 import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
 import io.swagger.codegen.v3.VendorExtendable;
+import io.swagger.codegen.v3.generators.CodegenEvent;
+import io.swagger.codegen.v3.generators.CodegenEvents;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
+import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getExtensionKey;
 
 public abstract class NoneExtensionHelper implements Helper<VendorExtendable> {
 
+	// extension keys by helper parameter
+	private final Map<String, String> extensionKeys = new ConcurrentHashMap<>();
+
 	public abstract String getPreffix();
 
 	@Override
 	public Object apply(VendorExtendable vendor, Options options) throws IOException {
+		final CodegenEvent event = CodegenEvents.fragmentRender(getClass());
 		final Options.Buffer buffer = options.buffer();
-		if (vendor == null) {
-			buffer.append(options.fn());
+		try {
+			if (vendor == null) {
+				buffer.append(options.fn());
+			}
+			else if (!getBooleanValue(vendor, getExtensionKey(extensionKeys, getPreffix(), options.param(0)))) {
+				buffer.append(options.fn());
+			}
+			else {
+				buffer.append(options.inverse());
+			}
 			return buffer;
 		}
-		final String param = options.param(0);
-		String extension = getPreffix() + param;
-
-		if (!getBooleanValue(vendor, extension)) {
-			buffer.append(options.fn());
-		}
-		else {
-			buffer.append(options.inverse());
+		finally {
+			event.size(buffer.length()).commit();
 		}
-		return buffer;
 	}
 
 }
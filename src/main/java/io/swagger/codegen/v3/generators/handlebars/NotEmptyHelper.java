@@ -2,6 +2,8 @@ package io.swagger.codegen.v3.generators.handlebars;
 
 import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
+import io.swagger.codegen.v3.generators.CodegenEvent;
+import io.swagger.codegen.v3.generators.CodegenEvents;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -12,15 +14,20 @@ public class NotEmptyHelper implements Helper<Collection> {
 
 	@Override
 	public Object apply(Collection collection, Options options) throws IOException {
+		final CodegenEvent event = CodegenEvents.fragmentRender(getClass());
 		final Options.Buffer buffer = options.buffer();
-
-		if (collection == null || collection.isEmpty()) {
-			buffer.append(options.inverse());
+		try {
+			if (collection == null || collection.isEmpty()) {
+				buffer.append(options.inverse());
+			}
+			else {
+				buffer.append(options.fn());
+			}
+			return buffer;
 		}
-		else {
-			buffer.append(options.fn());
+		finally {
+			event.size(buffer.length()).commit();
 		}
-		return buffer;
 	}
 
 }
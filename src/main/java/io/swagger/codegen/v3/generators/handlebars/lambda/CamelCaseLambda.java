@@ -39,7 +39,7 @@ public class CamelCaseLambda implements Lambda {
 
 	@Override
 	public Object apply(Object o, com.github.jknack.handlebars.Template template) throws IOException {
-		String executed = template.apply(o);
+		String executed = Fragments.apply(this, template, o);
 		String text = DefaultCodegenConfig.camelize(executed, true);
 		if (generator != null) {
 			text = ((DefaultCodegenConfig) generator).sanitizeName(text);
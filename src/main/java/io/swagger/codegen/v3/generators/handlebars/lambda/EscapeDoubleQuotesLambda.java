@@ -25,7 +25,7 @@ public class EscapeDoubleQuotesLambda implements Lambda {
 
 	@Override
 	public Object apply(Object o, Template template) throws IOException {
-		String text = template.apply(o);
+		String text = Fragments.apply(this, template, o);
 		if (text == null || text.length() == 0) {
 			return text;
 		}
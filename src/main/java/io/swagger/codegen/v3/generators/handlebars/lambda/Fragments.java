@@ -0,0 +1,30 @@
+package io.swagger.codegen.v3.generators.handlebars.lambda;
+
+import com.github.jknack.handlebars.Lambda;
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.v3.generators.CodegenEvent;
+import io.swagger.codegen.v3.generators.CodegenEvents;
+
+import java.io.IOException;
+
+/**
+ * Renders the fragments of the lambdas, recording them as JFR events.
+ */
+final class Fragments {
+
+	private Fragments() {
+	}
+
+	static String apply(Lambda lambda, Template template, Object context) throws IOException {
+		final CodegenEvent event = CodegenEvents.fragmentRender(lambda.getClass());
+		String text = null;
+		try {
+			text = template.apply(context);
+			return text;
+		}
+		finally {
+			event.size(text == null ? 0 : text.length()).commit();
+		}
+	}
+
+}
@@ -1,9 +1,12 @@
 package io.swagger.codegen.v3.generators.handlebars.lambda;
 
 import com.github.jknack.handlebars.Lambda;
+import io.swagger.codegen.v3.generators.CodegenEvent;
+import io.swagger.codegen.v3.generators.CodegenEvents;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
+import java.io.StringWriter;
 
 /**
  * This naively prepends indention to all lines of a fragment.
@@ -23,9 +26,7 @@ import java.io.IOException;
  */
 public class IndentedLambda implements Lambda {
 
-	private final int prefixSpaceCount;
-
-	private int spaceCode;
+	private final String prefixedIndention;
 
 	/**
 	 * Constructs a new instance of {@link io.swagger.codegen.mustache.IndentedLambda},
@@ -61,38 +62,26 @@ public class IndentedLambda implements Lambda {
 			throw new IllegalArgumentException("indentionCodePoint is an invalid code point ");
 		}
 
-		this.prefixSpaceCount = prefixSpaceCount;
-		this.spaceCode = indentionCodePoint;
+		this.prefixedIndention = StringUtils.repeat(new String(Character.toChars(indentionCodePoint)),
+				prefixSpaceCount);
 	}
 
 	@Override
 	public Object apply(Object o, com.github.jknack.handlebars.Template template) throws IOException {
-		String text = template.apply(o);
-		if (text == null || text.length() == 0) {
-			return text;
+		// Mustache will apply correct indentation to the first line of a template (to
+		// match declaration location), so the writer indents every line but the first one
+		// and drops the trailing line breaks, as the fragment is rendered.
+		final CodegenEvent event = CodegenEvents.fragmentRender(getClass());
+		final StringWriter writer = new StringWriter();
+		try {
+			final IndentingWriter indentingWriter = new IndentingWriter(writer, prefixedIndention);
+			template.apply(o, indentingWriter);
+			indentingWriter.finish();
+			return writer.toString();
 		}
-
-		String prefixedIndention = StringUtils.repeat(new String(Character.toChars(spaceCode)), prefixSpaceCount);
-		StringBuilder sb = new StringBuilder();
-		String[] lines = text.split(System.lineSeparator());
-		for (int i = 0; i < lines.length; i++) {
-			String line = lines[i];
-			// Mustache will apply correct indentation to the first line of a template (to
-			// match declaration location).
-			// So, we want to skip the first line.
-			if (i > 0) {
-				sb.append(prefixedIndention);
-			}
-
-			sb.append(line);
-
-			// We've split on the system's line separator. We don't want to add an
-			// additional trailing line.
-			if (i < lines.length - 1) {
-				sb.append(System.lineSeparator());
-			}
+		finally {
+			event.size(writer.getBuffer().length()).commit();
 		}
-		return sb.toString();
 	}
 
 }
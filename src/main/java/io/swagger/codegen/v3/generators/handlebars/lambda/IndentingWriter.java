@@ -0,0 +1,109 @@
+package io.swagger.codegen.v3.generators.handlebars.lambda;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer prefixing every line but the first with an indention, as the text is written.
+ * "\n" and "\r\n" are line breaks. Line breaks are held back until more text follows,
+ * so trailing line breaks are dropped by {@link #finish()} and no trailing indention is
+ * written.
+ */
+public class IndentingWriter extends Writer {
+
+	private final Writer out;
+
+	private final String indention;
+
+	// line breaks not written yet, "\n" or "\r\n" each
+	private final StringBuilder pendingBreaks = new StringBuilder();
+
+	// a '\r' was written last, it is part of a line break if '\n' follows
+	private boolean carriageReturn;
+
+	public IndentingWriter(Writer out, String indention) {
+		this.out = out;
+		this.indention = indention;
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		final int end = off + len;
+		int start = off;
+		for (int i = off; i < end; i++) {
+			final char c = cbuf[i];
+			if (c == '\n') {
+				writeText(cbuf, start, i - start);
+				pendingBreaks.append(carriageReturn ? "\r\n" : "\n");
+				carriageReturn = false;
+				start = i + 1;
+			}
+			else if (c == '\r') {
+				writeText(cbuf, start, i - start);
+				if (carriageReturn) {
+					// the previous '\r' was not followed by '\n'
+					writePendingBreaks();
+					out.write('\r');
+				}
+				carriageReturn = true;
+				start = i + 1;
+			}
+		}
+		writeText(cbuf, start, end - start);
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		final char[] chars = new char[len];
+		str.getChars(off, off + len, chars, 0);
+		write(chars, 0, len);
+	}
+
+	/**
+	 * Write a trailing '\r' not followed by '\n' and drop the trailing line breaks. The
+	 * underlying writer is not closed.
+	 */
+	public void finish() throws IOException {
+		if (carriageReturn) {
+			writePendingBreaks();
+			out.write('\r');
+			carriageReturn = false;
+		}
+		pendingBreaks.setLength(0);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		finish();
+		out.close();
+	}
+
+	private void writeText(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) {
+			return;
+		}
+		writePendingBreaks();
+		if (carriageReturn) {
+			out.write('\r');
+			carriageReturn = false;
+		}
+		out.write(cbuf, off, len);
+	}
+
+	private void writePendingBreaks() throws IOException {
+		for (int i = 0; i < pendingBreaks.length(); i++) {
+			final char c = pendingBreaks.charAt(i);
+			out.write(c);
+			if (c == '\n') {
+				out.write(indention);
+			}
+		}
+		pendingBreaks.setLength(0);
+	}
+
+}
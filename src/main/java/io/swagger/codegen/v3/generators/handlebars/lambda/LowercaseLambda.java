@@ -31,7 +31,7 @@ public class LowercaseLambda implements Lambda {
 
 	@Override
 	public Object apply(Object o, com.github.jknack.handlebars.Template template) throws IOException {
-		String text = template.apply(o);
+		String text = Fragments.apply(this, template, o);
 		if (text == null || text.length() == 0) {
 			return text;
 		}
@@ -19,7 +19,7 @@ public class UppercaseLambda implements Lambda {
 
 	@Override
 	public Object apply(Object o, com.github.jknack.handlebars.Template template) throws IOException {
-		String text = template.apply(o);
+		String text = Fragments.apply(this, template, o);
 		if (text == null || text.length() == 0) {
 			return text;
 		}
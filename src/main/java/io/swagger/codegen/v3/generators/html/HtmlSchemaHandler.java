@@ -98,7 +98,7 @@ public class HtmlSchemaHandler extends SchemaHandler {
 		for (Schema interfaceSchema : schemas) {
 			if (StringUtils.isNotBlank(interfaceSchema.get$ref())) {
 				String schemaName = OpenAPIUtil.getSimpleRef(interfaceSchema.get$ref());
-				modelNames.add(codegenConfig.toModelName(schemaName));
+				modelNames.add(codegenConfig.toCachedModelName(schemaName));
 			}
 		}
 		composedModel.vendorExtensions.put("x-model-names", modelNames);
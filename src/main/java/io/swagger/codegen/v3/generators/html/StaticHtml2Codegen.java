@@ -93,6 +93,9 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
 
 		languageSpecificPrimitives = new HashSet<String>();
 		importMapping = new HashMap<String, String>();
+
+		// index.mustache embeds the model and parameter schemas
+		includeSchemaJson = true;
 	}
 
 	@Override
@@ -11,6 +11,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.generators.features.NotNullAnnotationFeatures;
 import io.swagger.codegen.v3.generators.handlebars.java.JavaHelper;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -1717,7 +1718,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
 
 	@Override
 	public String escapeUnsafeCharacters(String input) {
-		return input.replace("*/", "*_/").replace("/*", "/_*");
+		return TextEscaper.BLOCK_COMMENT.escape(input);
 	}
 
 	/*
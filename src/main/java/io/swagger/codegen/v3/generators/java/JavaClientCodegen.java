@@ -580,6 +580,18 @@ public class JavaClientCodegen extends AbstractJavaCodegen
 		return "Java";
 	}
 
+	@Override
+	protected boolean supportsParallelModels() {
+		// fromModel, fromProperty and postProcessModelProperty only change the converted model
+		return true;
+	}
+
+	@Override
+	protected boolean supportsParallelOperations() {
+		// fromOperation and postProcessParameter only change the converted operation
+		return true;
+	}
+
 	protected List<Map<String, Object>> modelInheritanceSupportInGson(List<?> allModels) {
 		Map<CodegenModel, List<CodegenModel>> byParent = new LinkedHashMap<>();
 		for (Object model : allModels) {
@@ -11,6 +11,7 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import io.swagger.codegen.v3.generators.OperationParameters;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -317,7 +318,7 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
 
 	@Override
 	public void preprocessOpenAPI(OpenAPI openAPI) {
-		this.openAPI = openAPI;
+		super.preprocessOpenAPI(openAPI);
 		URL url = URLPathUtil.getServerURL(openAPI);
 		String host = URLPathUtil.LOCAL_HOST;
 		String port = "8080";
@@ -422,7 +423,7 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
 
 	@Override
 	public String escapeUnsafeCharacters(String input) {
-		return input.replace("*/", "*_/").replace("/*", "/_*");
+		return TextEscaper.BLOCK_COMMENT.escape(input);
 	}
 
 	@Override
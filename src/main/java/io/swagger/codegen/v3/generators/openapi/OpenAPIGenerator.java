@@ -4,7 +4,6 @@ import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
-import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.io.FileUtils;
@@ -63,16 +62,9 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
 	@Override
 	public void preprocessOpenAPI(OpenAPI openAPI) {
 		super.preprocessOpenAPI(openAPI);
-		final String outputString;
-		if (flattenSpec) {
-			outputString = Json.pretty(openAPI);
-		}
-		else {
-			outputString = Json.pretty(this.unflattenedOpenAPI);
-		}
-
 		try {
-			String outputFile = outputFolder + File.separator + this.outputFile;
+			final String outputString = toOutputString(flattenSpec ? openAPI : this.unflattenedOpenAPI);
+			String outputFile = outputFolder + File.separator + getOutputFile();
 			FileUtils.writeStringToFile(new File(outputFile), outputString);
 			LOGGER.debug("wrote file to " + outputFile);
 		}
@@ -81,6 +73,13 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
 		}
 	}
 
+	/**
+	 * @return the content of the output file
+	 */
+	protected String toOutputString(OpenAPI openAPI) {
+		return Json.pretty(openAPI);
+	}
+
 	@Override
 	public void processOpts() {
 		super.processOpts();
@@ -125,7 +124,7 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
 
 	@Override
 	protected void setTemplateEngine() {
-		templateEngine = new HandlebarTemplateEngine(this);
+		templateEngine = createHandlebarTemplateEngine();
 	}
 
 	@Override
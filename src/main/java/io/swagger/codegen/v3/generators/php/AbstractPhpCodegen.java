@@ -6,6 +6,7 @@ import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 
 import java.io.File;
 import java.util.Arrays;
@@ -28,6 +29,8 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
 
 	private static Logger LOGGER = LoggerFactory.getLogger(AbstractPhpCodegen.class);
 
+	private static final TextEscaper UNSAFE_CHARACTERS = TextEscaper.NONE.replace("*/", "");
+
 	public static final String VARIABLE_NAMING_CONVENTION = "variableNamingConvention";
 
 	public static final String PACKAGE_PATH = "packagePath";
@@ -733,7 +736,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
 
 	@Override
 	public String escapeUnsafeCharacters(String input) {
-		return input.replace("*/", "");
+		return UNSAFE_CHARACTERS.escape(input);
 	}
 
 	protected String extractSimpleName(String phpClassName) {
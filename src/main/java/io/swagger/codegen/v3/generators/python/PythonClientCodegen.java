@@ -8,6 +8,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
 import io.swagger.v3.oas.models.media.DateSchema;
@@ -37,6 +38,8 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(PythonClientCodegen.class);
 
+	private static final TextEscaper UNSAFE_CHARACTERS = TextEscaper.NONE.replace("'''", "'_'_'");
+
 	public static final String PACKAGE_URL = "packageUrl";
 
 	public static final String DEFAULT_LIBRARY = "urllib3";
@@ -756,7 +759,7 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
 	@Override
 	public String escapeUnsafeCharacters(String input) {
 		// remove multiline comment
-		return input.replace("'''", "'_'_'");
+		return UNSAFE_CHARACTERS.escape(input);
 	}
 
 }
@@ -6,6 +6,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 
 import java.io.File;
 import java.util.Arrays;
@@ -28,6 +29,8 @@ public class RClientCodegen extends DefaultCodegenConfig {
 
 	static Logger LOGGER = LoggerFactory.getLogger(RClientCodegen.class);
 
+	private static final TextEscaper UNSAFE_CHARACTERS = TextEscaper.NONE.replace("]]", "] ]");
+
 	protected String packageName = "swagger";
 
 	protected String packageVersion = "1.0.0";
@@ -387,7 +390,7 @@ public class RClientCodegen extends DefaultCodegenConfig {
 
 	@Override
 	public String escapeUnsafeCharacters(String input) {
-		return input.replace("]]", "] ]");
+		return UNSAFE_CHARACTERS.escape(input);
 	}
 
 	public Map<String, String> createMapping(String key, String value) {
@@ -8,6 +8,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -29,6 +30,8 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(RubyClientCodegen.class);
 
+	private static final TextEscaper UNSAFE_CHARACTERS = TextEscaper.NONE.replace("=end", "=_end").replace("=begin", "=_begin");
+
 	public static final String GEM_NAME = "gemName";
 
 	public static final String MODULE_NAME = "moduleName";
@@ -792,7 +795,7 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
 
 	@Override
 	public String escapeUnsafeCharacters(String input) {
-		return input.replace("=end", "=_end").replace("=begin", "=_begin");
+		return UNSAFE_CHARACTERS.escape(input);
 	}
 
 }
@@ -0,0 +1,327 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenConstants;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Vendor extensions map storing the boolean values of the well known
+ * {@link CodegenConstants} flags, e.g. {@link CodegenConstants#IS_ENUM_EXT_NAME}, as
+ * bits. Other extensions, and flags with non boolean values, are kept in a regular map.
+ * The flags are iterated first, in the order of {@link #FLAGS}.
+ */
+public class FlagMap extends AbstractMap<String, Object> {
+
+	static final String[] FLAGS = { CodegenConstants.IS_ENUM_EXT_NAME, CodegenConstants.HAS_MORE_EXT_NAME,
+			CodegenConstants.IS_MAP_CONTAINER_EXT_NAME, CodegenConstants.IS_LIST_CONTAINER_EXT_NAME,
+			CodegenConstants.IS_STRING_EXT_NAME, CodegenConstants.HAS_ENUMS_EXT_NAME,
+			CodegenConstants.IS_PRIMITIVE_TYPE_EXT_NAME, CodegenConstants.IS_CONTAINER_EXT_NAME,
+			CodegenConstants.IS_LONG_EXT_NAME, CodegenConstants.IS_INTEGER_EXT_NAME, CodegenConstants.IS_FILE_EXT_NAME,
+			CodegenConstants.IS_BINARY_EXT_NAME, CodegenConstants.IS_FLOAT_EXT_NAME,
+			CodegenConstants.IS_DOUBLE_EXT_NAME, CodegenConstants.IS_BOOLEAN_EXT_NAME,
+			CodegenConstants.IS_BYTE_ARRAY_EXT_NAME, CodegenConstants.IS_UUID_EXT_NAME,
+			CodegenConstants.IS_NUMERIC_EXT_NAME, CodegenConstants.IS_DATE_TIME_EXT_NAME,
+			CodegenConstants.IS_DATE_EXT_NAME, CodegenConstants.IS_HEADER_PARAM_EXT_NAME,
+			CodegenConstants.HAS_CONSUMES_EXT_NAME, CodegenConstants.IS_OBJECT_EXT_NAME,
+			CodegenConstants.IS_ALIAS_EXT_NAME, CodegenConstants.HAS_VARS_EXT_NAME,
+			CodegenConstants.HAS_VALIDATION_EXT_NAME, CodegenConstants.IS_SIMPLE_TYPE_EXT_NAME,
+			CodegenConstants.IS_READ_ONLY_EXT_NAME, CodegenConstants.IS_QUERY_PARAM_EXT_NAME,
+			CodegenConstants.IS_PATH_PARAM_EXT_NAME, CodegenConstants.IS_NULLABLE_EXT_NAME,
+			CodegenConstants.IS_MULTIPART_EXT_NAME, CodegenConstants.IS_DEFAULT_EXT_NAME,
+			CodegenConstants.IS_BODY_PARAM_EXT_NAME, CodegenConstants.IS_XML_WRAPPED_EXT_NAME,
+			CodegenConstants.IS_XML_ATTRIBUTE_EXT_NAME, CodegenConstants.IS_NUMBER_EXT_NAME,
+			CodegenConstants.IS_BEARER_EXT_NAME, CodegenConstants.IS_BASIC_EXT_NAME,
+			CodegenConstants.IS_API_KEY_EXT_NAME, CodegenConstants.HAS_REQUIRED_EXT_NAME,
+			CodegenConstants.HAS_PRODUCES_EXT_NAME, CodegenConstants.IS_TRACE_METHOD_EXT_NAME,
+			CodegenConstants.IS_RESTFUL_UPDATE_EXT_NAME, CodegenConstants.IS_RESTFUL_SHOW_EXT_NAME,
+			CodegenConstants.IS_RESTFUL_INDEX_EXT_NAME, CodegenConstants.IS_RESTFUL_EXT_NAME,
+			CodegenConstants.IS_RESTFUL_DESTROY_EXT_NAME, CodegenConstants.IS_RESTFUL_CREATE_EXT_NAME,
+			CodegenConstants.IS_RESPONSE_FILE_EXT_NAME, CodegenConstants.IS_RESPONSE_BINARY_EXT_NAME,
+			CodegenConstants.IS_PUT_METHOD_EXT_NAME, CodegenConstants.IS_POST_METHOD_EXT_NAME,
+			CodegenConstants.IS_PATCH_METHOD_EXT_NAME, CodegenConstants.IS_PASSWORD_EXT_NAME,
+			CodegenConstants.IS_OPTIONS_METHOD_EXT_NAME, CodegenConstants.IS_OAUTH_EXT_NAME,
+			CodegenConstants.IS_NOT_CONTAINER_EXT_NAME, CodegenConstants.IS_KEY_IN_QUERY_EXT_NAME,
+			CodegenConstants.IS_KEY_IN_HEADER_EXT_NAME, CodegenConstants.IS_INHERITED_EXT_NAME,
+			CodegenConstants.IS_IMPLICIT_EXT_NAME, CodegenConstants.IS_HEAD_METHOD_EXT_NAME,
+			CodegenConstants.IS_GET_METHOD_EXT_NAME, CodegenConstants.IS_FORM_PARAM_EXT_NAME,
+			CodegenConstants.IS_FORM_EXT_NAME, CodegenConstants.IS_DEPRECATED_EXT_NAME,
+			CodegenConstants.IS_DELETE_METHOD_EXT_NAME, CodegenConstants.IS_COOKIE_PARAM_EXT_NAME,
+			CodegenConstants.IS_COLLECTION_FORMAT_MULTI_EXT_NAME, CodegenConstants.IS_CODE_EXT_NAME,
+			CodegenConstants.IS_ARRAY_MODEL_EXT_NAME, CodegenConstants.IS_APPLICATION_EXT_NAME,
+			CodegenConstants.HAS_REQUIRED_PARAMS_EXT_NAME, CodegenConstants.HAS_REFERENCE_EXT_NAME,
+			CodegenConstants.HAS_PARAMS_EXT_NAME, CodegenConstants.HAS_OPTIONAL_PARAMS_EXT_NAME,
+			CodegenConstants.HAS_OPTIONAL_EXT_NAME, CodegenConstants.HAS_ONLY_READ_ONLY_EXT_NAME,
+			CodegenConstants.HAS_MORE_NON_READ_ONLY_EXT_NAME, CodegenConstants.HAS_HEADERS_EXT_NAME,
+			CodegenConstants.HAS_AUTH_METHODS_EXT_NAME };
+
+	private static final Map<String, Integer> FLAG_INDEXES = new HashMap<>();
+
+	private static final int WORDS = (FLAGS.length + 63) / 64;
+
+	static {
+		for (int i = 0; i < FLAGS.length; i++) {
+			FLAG_INDEXES.putIfAbsent(FLAGS[i], i);
+		}
+	}
+
+	// flags set in the map
+	private final long[] present = new long[WORDS];
+
+	// values of the flags set in the map
+	private final long[] values = new long[WORDS];
+
+	private int flagCount;
+
+	// other extensions, created on the first one
+	private Map<String, Object> others;
+
+	private Set<Map.Entry<String, Object>> entrySet;
+
+	public FlagMap() {
+	}
+
+	public FlagMap(Map<String, ?> extensions) {
+		putAll(extensions);
+	}
+
+	@Override
+	public int size() {
+		return flagCount + (others == null ? 0 : others.size());
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		final int index = indexOf(key);
+		if (index >= 0 && isPresent(index)) {
+			return true;
+		}
+		return others != null && others.containsKey(key);
+	}
+
+	@Override
+	public Object get(Object key) {
+		final int index = indexOf(key);
+		if (index >= 0 && isPresent(index)) {
+			return getFlag(index);
+		}
+		return others == null ? null : others.get(key);
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		final int index = indexOf(key);
+		if (index >= 0 && value instanceof Boolean) {
+			final Object previous = isPresent(index) ? getFlag(index)
+					: others == null ? null : others.remove(key);
+			setFlag(index, (Boolean) value);
+			return previous;
+		}
+		final Object previous = index >= 0 && isPresent(index) ? removeFlag(index) : null;
+		if (others == null) {
+			others = new HashMap<>();
+		}
+		final Object previousOther = others.put(key, value);
+		return previous != null ? previous : previousOther;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		final int index = indexOf(key);
+		if (index >= 0 && isPresent(index)) {
+			return removeFlag(index);
+		}
+		return others == null ? null : others.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < WORDS; i++) {
+			present[i] = 0;
+			values[i] = 0;
+		}
+		flagCount = 0;
+		others = null;
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new AbstractSet<Map.Entry<String, Object>>() {
+
+				@Override
+				public Iterator<Map.Entry<String, Object>> iterator() {
+					return new EntryIterator();
+				}
+
+				@Override
+				public int size() {
+					return FlagMap.this.size();
+				}
+
+				@Override
+				public void clear() {
+					FlagMap.this.clear();
+				}
+
+			};
+		}
+		return entrySet;
+	}
+
+	private static int indexOf(Object key) {
+		final Integer index = FLAG_INDEXES.get(key);
+		return index == null ? -1 : index;
+	}
+
+	private boolean isPresent(int index) {
+		return (present[index >>> 6] & (1L << index)) != 0;
+	}
+
+	private Boolean getFlag(int index) {
+		return (values[index >>> 6] & (1L << index)) != 0;
+	}
+
+	private void setFlag(int index, boolean value) {
+		if (!isPresent(index)) {
+			present[index >>> 6] |= 1L << index;
+			flagCount++;
+		}
+		if (value) {
+			values[index >>> 6] |= 1L << index;
+		}
+		else {
+			values[index >>> 6] &= ~(1L << index);
+		}
+	}
+
+	private Boolean removeFlag(int index) {
+		final Boolean value = getFlag(index);
+		present[index >>> 6] &= ~(1L << index);
+		values[index >>> 6] &= ~(1L << index);
+		flagCount--;
+		return value;
+	}
+
+	private int nextFlag(int from) {
+		for (int index = from; index < FLAGS.length; index++) {
+			if (isPresent(index)) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+		private int nextFlag = nextFlag(0);
+
+		private int lastFlag = -1;
+
+		private Iterator<Map.Entry<String, Object>> othersIterator;
+
+		@Override
+		public boolean hasNext() {
+			if (nextFlag >= 0) {
+				return true;
+			}
+			return getOthersIterator().hasNext();
+		}
+
+		@Override
+		public Map.Entry<String, Object> next() {
+			if (nextFlag >= 0) {
+				lastFlag = nextFlag;
+				nextFlag = nextFlag(nextFlag + 1);
+				return new FlagEntry(lastFlag);
+			}
+			lastFlag = -1;
+			final Iterator<Map.Entry<String, Object>> iterator = getOthersIterator();
+			if (!iterator.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return iterator.next();
+		}
+
+		@Override
+		public void remove() {
+			if (lastFlag >= 0) {
+				if (!isPresent(lastFlag)) {
+					throw new IllegalStateException();
+				}
+				removeFlag(lastFlag);
+				return;
+			}
+			if (othersIterator == null) {
+				throw new IllegalStateException();
+			}
+			othersIterator.remove();
+		}
+
+		private Iterator<Map.Entry<String, Object>> getOthersIterator() {
+			if (othersIterator == null) {
+				othersIterator = others == null ? Collections.emptyIterator()
+						: others.entrySet().iterator();
+			}
+			return othersIterator;
+		}
+
+	}
+
+	private class FlagEntry implements Map.Entry<String, Object> {
+
+		private final int index;
+
+		FlagEntry(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public String getKey() {
+			return FLAGS[index];
+		}
+
+		@Override
+		public Object getValue() {
+			return getFlag(index);
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			if (!(value instanceof Boolean)) {
+				// would move the entry to the other extensions while iterating
+				throw new IllegalArgumentException("Flag " + getKey() + " only takes boolean values");
+			}
+			final Boolean previous = getFlag(index);
+			setFlag(index, (Boolean) value);
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Map.Entry)) {
+				return false;
+			}
+			final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+			return getKey().equals(entry.getKey()) && getValue().equals(entry.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ getValue().hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+
+	}
+
+}
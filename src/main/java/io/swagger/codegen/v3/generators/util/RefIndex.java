@@ -0,0 +1,160 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Components of a spec by reference, e.g. {@code #/components/schemas/Pet}. The
+ * components are indexed once per spec, references to components added afterwards are
+ * resolved through the components of the spec. Simple and decoded names of the
+ * references are computed once.
+ */
+public class RefIndex {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RefIndex.class);
+
+	public static final String SCHEMAS_PREFIX = "#/components/schemas/";
+
+	public static final String PARAMETERS_PREFIX = "#/components/parameters/";
+
+	public static final String REQUEST_BODIES_PREFIX = "#/components/requestBodies/";
+
+	public static final String RESPONSES_PREFIX = "#/components/responses/";
+
+	public static final String HEADERS_PREFIX = "#/components/headers/";
+
+	private final OpenAPI openAPI;
+
+	private final Map<String, Schema> schemas;
+
+	private final Map<String, Parameter> parameters;
+
+	private final Map<String, RequestBody> requestBodies;
+
+	private final Map<String, ApiResponse> responses;
+
+	private final Map<String, Header> headers;
+
+	private final Map<String, String> simpleNames = new ConcurrentHashMap<>();
+
+	private final Map<String, String> decodedNames = new ConcurrentHashMap<>();
+
+	public RefIndex(OpenAPI openAPI) {
+		this.openAPI = openAPI;
+		this.schemas = index(SCHEMAS_PREFIX, Components::getSchemas);
+		this.parameters = index(PARAMETERS_PREFIX, Components::getParameters);
+		this.requestBodies = index(REQUEST_BODIES_PREFIX, Components::getRequestBodies);
+		this.responses = index(RESPONSES_PREFIX, Components::getResponses);
+		this.headers = index(HEADERS_PREFIX, Components::getHeaders);
+	}
+
+	public OpenAPI getOpenAPI() {
+		return openAPI;
+	}
+
+	/**
+	 * Same as {@link OpenAPIUtil#getSimpleRef(String)}, computed once per reference.
+	 */
+	public String getSimpleRef(String ref) {
+		String simpleName = simpleNames.get(ref);
+		if (simpleName == null) {
+			simpleName = OpenAPIUtil.getSimpleRef(ref);
+			simpleNames.put(ref, simpleName);
+		}
+		return simpleName;
+	}
+
+	/**
+	 * Return the URL decoded simple name of the given reference.
+	 */
+	public String getDecodedName(String ref) {
+		String decodedName = decodedNames.get(ref);
+		if (decodedName == null) {
+			decodedName = getSimpleRef(ref);
+			try {
+				decodedName = URLDecoder.decode(decodedName, StandardCharsets.UTF_8.name());
+			}
+			catch (UnsupportedEncodingException e) {
+				LOGGER.error("Could not decoded string: " + decodedName, e);
+			}
+			decodedNames.put(ref, decodedName);
+		}
+		return decodedName;
+	}
+
+	public Schema getSchema(String ref) {
+		return resolve(ref, schemas, Components::getSchemas);
+	}
+
+	public Parameter getParameter(String ref) {
+		return resolve(ref, parameters, Components::getParameters);
+	}
+
+	public RequestBody getRequestBody(String ref) {
+		return resolve(ref, requestBodies, Components::getRequestBodies);
+	}
+
+	public ApiResponse getResponse(String ref) {
+		return resolve(ref, responses, Components::getResponses);
+	}
+
+	public Header getHeader(String ref) {
+		return resolve(ref, headers, Components::getHeaders);
+	}
+
+	/**
+	 * Return the component schemas of the spec, never null.
+	 */
+	public Map<String, Schema> getSchemas() {
+		final Map<String, Schema> componentSchemas = getComponents(Components::getSchemas);
+		return componentSchemas == null ? Collections.emptyMap() : componentSchemas;
+	}
+
+	private <T> Map<String, T> index(String prefix, Function<Components, Map<String, T>> components) {
+		final Map<String, T> componentMap = getComponents(components);
+		if (componentMap == null || componentMap.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		final Map<String, T> index = new HashMap<>(componentMap.size() * 4 / 3 + 1);
+		for (Map.Entry<String, T> component : componentMap.entrySet()) {
+			index.put(prefix + component.getKey(), component.getValue());
+		}
+		return index;
+	}
+
+	private <T> T resolve(String ref, Map<String, T> index, Function<Components, Map<String, T>> components) {
+		if (ref == null) {
+			return null;
+		}
+		final T component = index.get(ref);
+		if (component != null) {
+			return component;
+		}
+		final Map<String, T> componentMap = getComponents(components);
+		return componentMap == null ? null : componentMap.get(getSimpleRef(ref));
+	}
+
+	private <T> Map<String, T> getComponents(Function<Components, Map<String, T>> components) {
+		if (openAPI == null || openAPI.getComponents() == null) {
+			return null;
+		}
+		return components.apply(openAPI.getComponents());
+	}
+
+}
@@ -0,0 +1,107 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.HandlebarsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Validates the bundled templates at build time: {@link #main(String[])} parses every
+ * template and checks that the partials they include exist, so broken templates fail the
+ * build instead of a generation.
+ */
+public class TemplateValidator {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TemplateValidator.class);
+
+	private static final String TEMPLATE_SUFFIX = ".mustache";
+
+	private static final Pattern PARTIAL_PATTERN = Pattern.compile("\\{\\{>\\s*([^\\s}]+)[^}]*\\}\\}");
+
+	private TemplateValidator() {
+	}
+
+	/**
+	 * Validate the templates of the given roots.
+	 * @param args the resources directory, followed by the template roots
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			throw new IllegalArgumentException("usage: TemplateValidator <resources directory> <template root>...");
+		}
+		final File resources = new File(args[0]);
+		final List<String> errors = new ArrayList<>();
+		for (int i = 1; i < args.length; i++) {
+			errors.addAll(validate(resources.toPath().resolve(args[i])));
+		}
+		if (!errors.isEmpty()) {
+			errors.forEach(LOGGER::error);
+			throw new IllegalStateException(errors.size() + " invalid templates");
+		}
+	}
+
+	/**
+	 * Return the files below the given template root, sorted, with '/' separators.
+	 */
+	static List<String> list(Path root) throws IOException {
+		try (Stream<Path> files = Files.walk(root)) {
+			return files.filter(Files::isRegularFile)
+					.map(file -> root.relativize(file).toString().replace(File.separatorChar, '/'))
+					.sorted()
+					.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Parse the templates below the given root and check that their partials exist in
+	 * the directory of the template or one of its parents within the template directory.
+	 * @return the errors found
+	 */
+	static List<String> validate(Path root) throws IOException {
+		final Handlebars handlebars = new Handlebars();
+		final List<String> errors = new ArrayList<>();
+		for (String file : list(root)) {
+			if (!file.endsWith(TEMPLATE_SUFFIX)) {
+				continue;
+			}
+			final Path template = root.resolve(file);
+			final String content = new String(Files.readAllBytes(template), StandardCharsets.UTF_8);
+			try {
+				handlebars.compileInline(content);
+			}
+			catch (HandlebarsException e) {
+				errors.add(file + ": " + e.getMessage());
+			}
+			final Matcher matcher = PARTIAL_PATTERN.matcher(content);
+			while (matcher.find()) {
+				if (!hasPartial(root, template.getParent(), matcher.group(1))) {
+					errors.add(file + ": partial not found: " + matcher.group(1));
+				}
+			}
+		}
+		return errors;
+	}
+
+	private static boolean hasPartial(Path root, Path dir, String name) {
+		// the first directory below the root is the template directory of a generator
+		for (Path parent = dir; parent != null && !parent.equals(root); parent = parent.getParent()) {
+			if (Files.isRegularFile(parent.resolve(name + TEMPLATE_SUFFIX))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,158 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.Arrays;
+
+/**
+ * Ordered literal replacements a generator applies to escape unsafe characters, e.g.
+ * the start and the end of block comments. The replacements give the same result as
+ * chained {@link String#replace(CharSequence, CharSequence)} calls, but the text is
+ * scanned once against a table of the first characters of the targets and left as it
+ * is when none of them occurs.
+ * <p>
+ * {@link #escapeText(String)} is the generic escaping of
+ * {@link io.swagger.codegen.v3.generators.DefaultCodegenConfig#escapeText(String)},
+ * done in a single pass as well.
+ */
+public class TextEscaper {
+
+	public static final TextEscaper NONE = new TextEscaper(new String[0], new String[0]);
+
+	/**
+	 * Escapes the start and the end of block comments, for Java, Go, TypeScript and the
+	 * other languages with C style comments.
+	 */
+	public static final TextEscaper BLOCK_COMMENT = NONE.replace("*/", "*_/").replace("/*", "/_*");
+
+	// replacements of the generic escaping, by character
+	private static final String[] TEXT_ESCAPES = new String[128];
+
+	static {
+		TEXT_ESCAPES['\t'] = " ";
+		TEXT_ESCAPES['\n'] = " ";
+		TEXT_ESCAPES['\r'] = " ";
+		TEXT_ESCAPES['\\'] = "\\\\";
+		TEXT_ESCAPES['"'] = "\\\"";
+	}
+
+	private final String[] targets;
+
+	private final String[] replacements;
+
+	// first characters of the targets below 128, as bits of two longs
+	private final long[] startMask = new long[2];
+
+	// a target starts with a character from 128 on, the text can't be skipped by the mask
+	private final boolean nonAsciiStart;
+
+	private TextEscaper(String[] targets, String[] replacements) {
+		this.targets = targets;
+		this.replacements = replacements;
+		boolean nonAsciiStart = false;
+		for (String target : targets) {
+			final char c = target.charAt(0);
+			if (c < 128) {
+				startMask[c >> 6] |= 1L << c;
+			}
+			else {
+				nonAsciiStart = true;
+			}
+		}
+		this.nonAsciiStart = nonAsciiStart;
+	}
+
+	/**
+	 * Returns an escaper replacing the target with the replacement after the replacements
+	 * of this one.
+	 */
+	public TextEscaper replace(String target, String replacement) {
+		if (target == null || target.isEmpty()) {
+			throw new IllegalArgumentException("target must not be empty");
+		}
+		final String[] targets = Arrays.copyOf(this.targets, this.targets.length + 1);
+		final String[] replacements = Arrays.copyOf(this.replacements, this.replacements.length + 1);
+		targets[this.targets.length] = target;
+		replacements[this.replacements.length] = replacement;
+		return new TextEscaper(targets, replacements);
+	}
+
+	/**
+	 * Applies the replacements in order.
+	 * @param input text to escape
+	 * @return the escaped text, the input itself if no replacement applies
+	 */
+	public String escape(String input) {
+		if (input == null || targets.length == 0) {
+			return input;
+		}
+		final int start = indexOfStart(input);
+		if (start < 0) {
+			return input;
+		}
+		// nothing before start is replaced, by any of the replacements
+		String text = input;
+		for (int i = 0; i < targets.length; i++) {
+			text = replace(text, start, targets[i], replacements[i]);
+		}
+		return text;
+	}
+
+	/**
+	 * Replaces tabs and line breaks with spaces and escapes backslashes and double quotes.
+	 * A backslash followed by a slash is dropped, as the former
+	 * {@code unescapeJava(escapeJava(input).replace("\\/", "/"))} round trip did.
+	 * @param input text to escape, not null
+	 * @return the escaped text, the input itself if nothing is escaped
+	 */
+	public static String escapeText(String input) {
+		final int length = input.length();
+		StringBuilder builder = null;
+		for (int i = 0; i < length; i++) {
+			final char c = input.charAt(i);
+			final String escape = c < TEXT_ESCAPES.length ? TEXT_ESCAPES[c] : null;
+			if (escape == null) {
+				if (builder != null) {
+					builder.append(c);
+				}
+				continue;
+			}
+			if (builder == null) {
+				builder = new StringBuilder(length + 16);
+				builder.append(input, 0, i);
+			}
+			if (c != '\\' || i + 1 == length || input.charAt(i + 1) != '/') {
+				builder.append(escape);
+			}
+		}
+		return builder == null ? input : builder.toString();
+	}
+
+	private int indexOfStart(String input) {
+		if (nonAsciiStart) {
+			return 0;
+		}
+		for (int i = 0; i < input.length(); i++) {
+			final char c = input.charAt(i);
+			if (c < 128 && (startMask[c >> 6] & (1L << c)) != 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static String replace(String text, int start, String target, String replacement) {
+		int index = text.indexOf(target, start);
+		if (index < 0) {
+			return text;
+		}
+		final StringBuilder builder = new StringBuilder(text.length() + 16);
+		int end = 0;
+		do {
+			builder.append(text, end, index).append(replacement);
+			end = index + target.length();
+			index = text.indexOf(target, end);
+		}
+		while (index >= 0);
+		return builder.append(text, end, text.length()).toString();
+	}
+
+}
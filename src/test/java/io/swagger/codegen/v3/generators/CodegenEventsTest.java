@@ -0,0 +1,59 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CodegenEventsTest {
+
+	@Test
+	public void testNoEventsWithoutRecording() {
+		Assert.assertSame(CodegenEvents.fragmentRender(getClass()), CodegenEvent.NONE);
+		Assert.assertSame(CodegenEvents.postProcessHook("postProcessAllModels", null), CodegenEvent.NONE);
+	}
+
+	@Test
+	public void testRecording() throws Exception {
+		final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+		final DefaultCodegenConfig codegen = new JavaClientCodegen();
+		final File file = File.createTempFile("codegen", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("io.swagger.codegen.ModelConverted");
+			recording.enable("io.swagger.codegen.OperationConverted");
+			recording.start();
+			codegen.preprocessOpenAPI(openAPI);
+			codegen.fromModel("Pet", openAPI.getComponents().getSchemas().get("Pet"),
+					openAPI.getComponents().getSchemas());
+			codegen.fromOperations(openAPI);
+			recording.stop();
+			recording.dump(file.toPath());
+
+			final List<String> models = new ArrayList<>();
+			int operations = 0;
+			for (RecordedEvent event : RecordingFile.readAllEvents(file.toPath())) {
+				final String name = event.getEventType().getName();
+				if (name.equals("io.swagger.codegen.ModelConverted")) {
+					models.add(event.getString("model"));
+				}
+				else if (name.equals("io.swagger.codegen.OperationConverted")) {
+					operations++;
+				}
+			}
+			Assert.assertTrue(models.contains("Pet"), models.toString());
+			Assert.assertTrue(operations > 0);
+		}
+		finally {
+			file.delete();
+		}
+	}
+
+}
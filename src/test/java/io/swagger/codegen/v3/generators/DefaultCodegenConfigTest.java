@@ -2,11 +2,17 @@ package io.swagger.codegen.v3.generators;
 
 import io.swagger.codegen.v3.CodegenArgument;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenType;
+import io.swagger.codegen.v3.generators.java.JavaJerseyServerCodegen;
+import io.swagger.codegen.v3.generators.nodejs.NodeJSServerCodegen;
+import io.swagger.codegen.v3.generators.openapi.OpenAPIYamlGenerator;
+import io.swagger.codegen.v3.generators.util.RefIndex;
+import io.swagger.codegen.v3.templates.TemplateEngine;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -21,18 +27,25 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.apache.commons.io.FileUtils;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.File;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 public class DefaultCodegenConfigTest {
 
@@ -326,6 +339,367 @@ public class DefaultCodegenConfigTest {
 				{ Arrays.asList("STATUS-ON", "STATUS-OFF", "STATUS"), "" } };
 	}
 
+	@Test
+	public void testFromOperation_discriminator() {
+		final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/polymorphicSchema.yaml");
+		final P_DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+		codegen.preprocessOpenAPI(openAPI);
+		final String path = "/provision";
+		final Operation op = openAPI.getPaths().get(path).getGet();
+
+		CodegenOperation codegenOp = codegen.fromOperation(path, "get", op, openAPI.getComponents().getSchemas(),
+				openAPI);
+		Assert.assertNotNull(codegenOp.discriminator);
+		Assert.assertEquals(codegenOp.discriminator.getPropertyName(), "type");
+
+		final Schema schema = openAPI.getComponents().getSchemas().get("PolymorphicResponse");
+		final CodegenModel codegenModel = codegen.fromModel("PolymorphicResponse", schema,
+				openAPI.getComponents().getSchemas());
+		codegenOp = codegen.fromOperation(path, "get", op, openAPI.getComponents().getSchemas(), openAPI);
+		Assert.assertSame(codegenOp.discriminator, codegenModel.discriminator);
+	}
+
+	@Test
+	public void testFromOperation_xmlExamples() {
+		final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+		final P_DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+		codegen.preprocessOpenAPI(openAPI);
+		final Operation op = new Operation().operationId("getPetXml").responses(new ApiResponses().addApiResponse("200",
+				new ApiResponse().description("successful operation").content(new Content().addMediaType(
+						"application/xml", new MediaType().schema(new Schema().$ref("#/components/schemas/Pet"))))));
+
+		final CodegenOperation codegenOp = codegen.fromOperation("/pet/xml", "get", op,
+				openAPI.getComponents().getSchemas(), openAPI);
+		Assert.assertEquals(codegenOp.examples.size(), 1);
+		Assert.assertEquals(codegenOp.examples.get(0).get("contentType"), "application/xml");
+		Assert.assertNotNull(codegenOp.examples.get(0).get("example"));
+
+		final String path = "/pet/{petId}";
+		final CodegenOperation getPetById = codegen.fromOperation(path, "get", openAPI.getPaths().get(path).getGet(),
+				openAPI.getComponents().getSchemas(), openAPI);
+		final List<String> contentTypes = new ArrayList<>();
+		for (Map<String, String> example : getPetById.examples) {
+			contentTypes.add(example.get("contentType"));
+		}
+		Assert.assertEquals(contentTypes, Arrays.asList("application/json", "application/xml"));
+	}
+
+	@Test(dataProvider = "testCamelizeProvider")
+	public void testCamelize(String word, String expectedCamelized, String expectedLowerCamelized) {
+		Assert.assertEquals(DefaultCodegenConfig.camelize(word), expectedCamelized);
+		Assert.assertEquals(DefaultCodegenConfig.camelize(word, true), expectedLowerCamelized);
+	}
+
+	/**
+	 * Golden corpus recorded with the regex based camelize implementation.
+	 */
+	@DataProvider(name = "testCamelizeProvider")
+	public Object[][] provideData_testCamelize() {
+		return new Object[][] {
+				{ "", "", "" },
+				{ "pet", "Pet", "pet" },
+				{ "Pet", "Pet", "pet" },
+				{ "pet_id", "PetId", "petId" },
+				{ "PET_ID", "PETID", "pETID" },
+				{ "petId", "PetId", "petId" },
+				{ "pet-id", "PetId", "petId" },
+				{ "pet--id", "PetId", "petId" },
+				{ "pet__id", "PetId", "petId" },
+				{ "_pet", "Pet", "pet" },
+				{ "__pet", "Pet", "pet" },
+				{ "pet_", "Pet_", "pet_" },
+				{ "pet__", "Pet_", "pet_" },
+				{ "-pet", "Pet", "pet" },
+				{ "pet-", "Pet-", "pet-" },
+				{ "api/pets", "ApiPets", "apiPets" },
+				{ "/pets/{petId}", "Pets{petId}", "pets{petId}" },
+				{ "io.swagger.model", "IoSwaggerModel", "ioSwaggerModel" },
+				{ "some.package.Name", "SomePackageName", "somePackageName" },
+				{ "..", "", "" },
+				{ "a.b.c", "ABC", "aBC" },
+				{ "user_name_1", "UserName1", "userName1" },
+				{ "user_1_name", "User1Name", "user1Name" },
+				{ "v1_2", "V12", "v12" },
+				{ "x-is-enum", "XIsEnum", "xIsEnum" },
+				{ "x_-y", "XY", "xY" },
+				{ "-_x", "X", "x" },
+				{ "a_-b", "AB", "aB" },
+				{ "a-_b", "AB", "aB" },
+				{ "HTTP_STATUS_CODE", "HTTPSTATUSCODE", "hTTPSTATUSCODE" },
+				{ "getPetById", "GetPetById", "getPetById" },
+				{ "find pets by status", "Find pets by status", "find pets by status" },
+				{ "$special", "$Special", "$Special" },
+				{ "foo$bar", "Foo$bar", "foo$bar" },
+				{ "back\\slash", "Backslash", "backslash" },
+				{ "line\nbreak", "Line\nbreak", "line\nbreak" },
+				{ "caf\u00e9_au_lait", "Caf\u00e9AuLait", "caf\u00e9AuLait" },
+				{ "stra\u00dfe_name", "Stra\u00dfeName", "stra\u00dfeName" },
+				{ "_", "_", "_" },
+				{ "-", "-", "-" },
+				{ "/", "", "" },
+				{ ".", "", "" },
+				{ "__", "_", "_" },
+				{ "--", "-", "-" },
+				{ "123_abc", "123Abc", "123Abc" },
+				{ "_123", "123", "123" },
+				{ "a/b_c-d.e", "ABCDE", "aBCDE" },
+				{ "::colon::", "::Colon::", "::Colon::" },
+				{ "[array]", "[Array]", "[Array]" },
+				{ "snake_case_to_camel", "SnakeCaseToCamel", "snakeCaseToCamel" } };
+	}
+
+	/**
+	 * Tests that the single pass camelize gives the same result as the regex based
+	 * implementation for random names built from the characters camelize cares about.
+	 */
+	@Test
+	public void testCamelizeMatchesPatterns() {
+		final String[] fragments = { "a", "b", "Z", "i", "I", "1", "_", "-", ".", "/", " ", "\n", "\u00e9", ":", "[",
+				"{", "__", "--", "//" };
+		final Random random = new Random(42);
+		for (int n = 0; n < 100000; n++) {
+			final StringBuilder word = new StringBuilder();
+			final int length = random.nextInt(12);
+			for (int i = 0; i < length; i++) {
+				word.append(fragments[random.nextInt(fragments.length)]);
+			}
+			final boolean lowercaseFirstLetter = random.nextBoolean();
+			Assert.assertEquals(DefaultCodegenConfig.camelize(word.toString(), lowercaseFirstLetter),
+					DefaultCodegenConfig.camelizeWithPatterns(word.toString(), lowercaseFirstLetter),
+					"camelize '" + word + "'");
+		}
+	}
+
+	@Test
+	public void testCamelizeReplacementLimit() {
+		final StringBuilder word = new StringBuilder();
+		for (int i = 0; i < 150; i++) {
+			word.append("a_b-c/");
+		}
+		Assert.assertEquals(DefaultCodegenConfig.camelize(word.toString()),
+				DefaultCodegenConfig.camelizeWithPatterns(word.toString(), false));
+	}
+
+	@Test
+	public void testNameCache() {
+		final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+
+		Assert.assertEquals(codegen.toCachedModelName("pet"), "Pet");
+		Assert.assertEquals(codegen.toCachedModelName("pet"), "Pet");
+		Assert.assertEquals(codegen.getNameCache().getMisses(), 1);
+		Assert.assertEquals(codegen.getNameCache().getHits(), 1);
+
+		codegen.setModelNamePrefix("My");
+		Assert.assertEquals(codegen.toCachedModelName("pet"), "MyPet");
+
+		codegen.reservedWords().add("pet");
+		Assert.assertEquals(codegen.sanitizeName("pet[]"), "pet");
+		Assert.assertEquals(codegen.getNameCache().getMisses(), 3);
+		Assert.assertEquals(codegen.getNameCache().size(), 2);
+
+		// the options changed in place are picked up by processOpts
+		codegen.importMapping().put("Pet", "org.example.Pet");
+		Assert.assertEquals(codegen.toCachedModelName("pet"), "MyPet");
+		Assert.assertEquals(codegen.getNameCache().getMisses(), 3);
+		codegen.processOpts();
+		Assert.assertEquals(codegen.toCachedModelName("pet"), "MyPet");
+		Assert.assertEquals(codegen.getNameCache().getMisses(), 4);
+	}
+
+	@Test
+	public void testFromOperations() {
+		final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+		final DefaultCodegenConfig sequentialCodegen = new P_DefaultCodegenConfig();
+		sequentialCodegen.preprocessOpenAPI(openAPI);
+		final Map<String, List<CodegenOperation>> sequentialOperations = sequentialCodegen.fromOperations(openAPI);
+
+		final DefaultCodegenConfig parallelCodegen = new P_DefaultCodegenConfig() {
+
+			@Override
+			protected boolean supportsParallelOperations() {
+				return true;
+			}
+
+		};
+		parallelCodegen.setParallelOperations(true);
+		parallelCodegen.preprocessOpenAPI(openAPI);
+		final Map<String, List<CodegenOperation>> parallelOperations = parallelCodegen.fromOperations(openAPI);
+
+		Assert.assertEquals(parallelOperations.keySet(), sequentialOperations.keySet());
+		Assert.assertEquals(operationIds(sequentialOperations.get("Pet")).subList(0, 2),
+				Arrays.asList("updatePet", "addPet"));
+		for (String tag : sequentialOperations.keySet()) {
+			Assert.assertEquals(operationIds(parallelOperations.get(tag)), operationIds(sequentialOperations.get(tag)));
+		}
+	}
+
+	@Test
+	public void testMetrics() throws Exception {
+		final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+		final DefaultCodegenConfig disabledCodegen = new P_DefaultCodegenConfig();
+		disabledCodegen.preprocessOpenAPI(openAPI);
+		disabledCodegen.fromModels(openAPI.getComponents().getSchemas());
+		Assert.assertEquals(disabledCodegen.getMetrics().getCalls(CodegenMetrics.Phase.MODELS), 0);
+		Assert.assertEquals(disabledCodegen.getMetrics().getCount(CodegenMetrics.Counter.MODELS), 0);
+
+		final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+		codegen.additionalProperties().put(DefaultCodegenConfig.CODEGEN_METRICS, "true");
+		codegen.setParallelOperations(true);
+		codegen.processOpts();
+		codegen.preprocessOpenAPI(openAPI);
+		codegen.postProcessAllModels(new HashMap<>());
+		codegen.fromModels(openAPI.getComponents().getSchemas());
+		final Map<String, List<CodegenOperation>> operations = codegen.fromOperations(openAPI);
+
+		final CodegenMetrics metrics = codegen.getMetrics();
+		Assert.assertEquals(metrics.getCalls(CodegenMetrics.Phase.PREPROCESS), 1);
+		Assert.assertEquals(metrics.getCalls(CodegenMetrics.Phase.POST_PROCESS_MODELS), 1);
+		Assert.assertEquals(metrics.getCount(CodegenMetrics.Counter.MODELS),
+				openAPI.getComponents().getSchemas().size());
+		Assert.assertEquals(metrics.getCalls(CodegenMetrics.Phase.MODELS),
+				metrics.getCount(CodegenMetrics.Counter.MODELS));
+		int operationCount = 0;
+		for (List<CodegenOperation> tagOperations : operations.values()) {
+			operationCount += tagOperations.size();
+		}
+		Assert.assertEquals(metrics.getCount(CodegenMetrics.Counter.OPERATIONS), operationCount);
+		Assert.assertTrue(metrics.getCount(CodegenMetrics.Counter.PROPERTIES) > 0);
+		Assert.assertTrue(metrics.getCount(CodegenMetrics.Counter.PARAMETERS) > 0);
+		Assert.assertTrue(metrics.getWallNanos(CodegenMetrics.Phase.OPERATIONS) > 0);
+		Assert.assertTrue(metrics.toJson().contains("\"POST_PROCESS_MODELS\""));
+		codegen.postProcessOperationsWithModels(new HashMap<>(), new ArrayList<>());
+
+		final TemplateEngine templateEngine = new TimedTemplateEngine(new TemplateEngine() {
+
+			@Override
+			public String getRendered(String templateFile, Map<String, Object> templateData) {
+				return "rendered";
+			}
+
+			@Override
+			public String getName() {
+				return "test";
+			}
+
+		}, metrics);
+		Assert.assertEquals(templateEngine.getRendered("model.mustache", new HashMap<>()), "rendered");
+		Assert.assertEquals(metrics.getCalls(CodegenMetrics.Phase.POST_PROCESS_OPERATIONS), 1);
+		Assert.assertEquals(metrics.getCalls(CodegenMetrics.Phase.TEMPLATES), 1);
+		Assert.assertEquals(metrics.getCount(CodegenMetrics.Counter.RENDERS), 1);
+		Assert.assertEquals(metrics.getCount(CodegenMetrics.Counter.CHARACTERS), "rendered".length());
+
+		codegen.preprocessOpenAPI(openAPI);
+		Assert.assertEquals(metrics.getCount(CodegenMetrics.Counter.MODELS), 0);
+	}
+
+	@Test
+	public void testPreprocessOpenAPIOfGenerators() throws Exception {
+		final File outputFolder = Files.createTempDirectory("preprocess").toFile();
+		try {
+			for (DefaultCodegenConfig codegen : Arrays.asList(new JavaJerseyServerCodegen(),
+					new NodeJSServerCodegen(), new OpenAPIYamlGenerator())) {
+				final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+				codegen.setOutputDir(outputFolder.getAbsolutePath());
+				codegen.getMetrics().setEnabled(true);
+				codegen.toCachedModelName("Pet");
+				codegen.preprocessOpenAPI(openAPI);
+				codegen.getMetrics().closeOpenPhase();
+				Assert.assertEquals(codegen.getMetrics().getCalls(CodegenMetrics.Phase.PREPROCESS), 1,
+						codegen.getName());
+				Assert.assertEquals(codegen.getNameCache().size(), 0, codegen.getName());
+			}
+			Assert.assertEquals(outputFolder.list(), new String[] { "openapi.yaml" });
+		}
+		finally {
+			FileUtils.deleteDirectory(outputFolder);
+		}
+	}
+
+	@Test
+	public void testEnsureUniqueParameters() {
+		final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+		final List<CodegenParameter> codegenParameters = new ArrayList<>();
+		for (String paramName : Arrays.asList("status", "status", "status2", "id", "page9", "page9")) {
+			final CodegenParameter codegenParameter = new CodegenParameter();
+			codegenParameter.paramName = paramName;
+			codegenParameters.add(codegenParameter);
+		}
+		codegen.ensureUniqueParameters(codegenParameters);
+
+		final List<String> paramNames = new ArrayList<>();
+		codegenParameters.forEach(codegenParameter -> paramNames.add(codegenParameter.paramName));
+		Assert.assertEquals(paramNames, Arrays.asList("status2", "status", "status3", "id", "page10", "page9"));
+		Assert.assertEquals(DefaultCodegenConfig.generateNextName("myName100"), "myName101");
+		Assert.assertEquals(DefaultCodegenConfig.generateNextName("myName"), "myName2");
+	}
+
+	@Test
+	public void testAddOperationToGroup() {
+		final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+		final Map<String, List<CodegenOperation>> operations = new HashMap<>();
+		for (String operationId : Arrays.asList("getPet", "getPet", "getPet_1", "getPet", "getPet", "addPet")) {
+			final CodegenOperation codegenOperation = new CodegenOperation();
+			codegenOperation.operationId = operationId;
+			codegenOperation.path = "/pet";
+			codegenOperation.httpMethod = "GET";
+			codegen.addOperationToGroup("pet", "/pet", new Operation(), codegenOperation, operations);
+		}
+		Assert.assertEquals(operationIds(operations.get("pet")),
+				Arrays.asList("getPet", "getPet_0", "getPet_1", "getPet_2", "getPet_3", "addPet"));
+	}
+
+	@Test
+	public void testRefIndex() {
+		final Parameter limit = new Parameter().name("limit").in("query");
+		final RequestBody petBody = new RequestBody().description("a pet");
+		final Schema pet = new Schema().type("object");
+		final OpenAPI openAPI = new OpenAPI().components(
+				new Components().addParameters("limit", limit).addRequestBodies("Pet", petBody)
+						.addSchemas("Pet Type", pet));
+		final RefIndex refIndex = new RefIndex(openAPI);
+
+		Assert.assertSame(refIndex.getParameter("#/components/parameters/limit"), limit);
+		Assert.assertSame(refIndex.getRequestBody("#/components/requestBodies/Pet"), petBody);
+		Assert.assertSame(refIndex.getSchema("#/components/schemas/Pet Type"), pet);
+		Assert.assertEquals(refIndex.getDecodedName("#/components/schemas/Pet%20Type"), "Pet Type");
+		Assert.assertNull(refIndex.getResponse("#/components/responses/NotFound"));
+
+		// components added after the index was created
+		final Header rateLimit = new Header().description("rate limit");
+		openAPI.getComponents().addHeaders("RateLimit", rateLimit);
+		Assert.assertSame(refIndex.getHeader("#/components/headers/RateLimit"), rateLimit);
+
+		Assert.assertNull(new RefIndex(null).getSchema("#/components/schemas/Pet"));
+	}
+
+	private static List<String> operationIds(List<CodegenOperation> codegenOperations) {
+		final List<String> operationIds = new ArrayList<>();
+		for (CodegenOperation codegenOperation : codegenOperations) {
+			operationIds.add(codegenOperation.operationId);
+		}
+		return operationIds;
+	}
+
+	@Test
+	public void testSchemaHandlerFindProperty() {
+		final SchemaHandler schemaHandler = new SchemaHandler(new P_DefaultCodegenConfig());
+		final CodegenModel codegenModel = new CodegenModel();
+		codegenModel.classname = "Pet";
+		final CodegenProperty id = new CodegenProperty();
+		id.baseName = "id";
+		final CodegenProperty duplicatedId = new CodegenProperty();
+		duplicatedId.baseName = "id";
+		codegenModel.vars = new ArrayList<>(Arrays.asList(id, duplicatedId));
+
+		Assert.assertSame(schemaHandler.findProperty(codegenModel, "id"), id);
+		Assert.assertNull(schemaHandler.findProperty(codegenModel, "name"));
+
+		final CodegenProperty name = new CodegenProperty();
+		name.baseName = "name";
+		codegenModel.vars.add(name);
+		Assert.assertSame(schemaHandler.findProperty(codegenModel, "name"), name);
+	}
+
 	private static class P_DefaultCodegenConfig extends DefaultCodegenConfig {
 
 		@Override
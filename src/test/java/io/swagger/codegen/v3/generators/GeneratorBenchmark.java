@@ -0,0 +1,185 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.service.GenerationRequest;
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Runs every generator registered in {@code META-INF/services} over a fixed corpus of
+ * specs with {@link GeneratorRunner#runGenerator} and writes a JSON report of the wall
+ * time, CPU time, peak heap, allocated bytes and files written per generator and spec,
+ * to compare releases. Run with
+ * {@code java ... GeneratorBenchmark [report file] [iterations] [generator names...]}.
+ * <p>
+ * CPU time is the one of the process. Allocated bytes are only the ones of the calling
+ * thread, which runs the generator. The peak heap is the sum of the peaks of the heap
+ * memory pools, which are not reached at the same time, so it is an upper bound of the
+ * actual peak. Figures of a generator and spec are the averages over the iterations,
+ * after a warm up run.
+ */
+public class GeneratorBenchmark {
+
+	static final List<String> SPECS = Arrays.asList("3_0_0/petstore.yaml", "3_0_0/composed_schemas.yaml",
+			"3_0_0/polymorphicSchema.yaml", "3_0_0/parameterOrder.yaml", "3_0_0/requestBodyRefTest.json");
+
+	public static void main(String[] args) throws Exception {
+		final File reportFile = new File(args.length > 0 ? args[0] : "target/generator-benchmark.json");
+		final int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+		final List<String> generators = args.length > 2 ? Arrays.asList(args).subList(2, args.length)
+				: getGeneratorNames();
+
+		final List<Map<String, Object>> results = new ArrayList<>();
+		for (String generator : generators) {
+			for (String spec : SPECS) {
+				final Map<String, Object> result = run(generator, spec, iterations);
+				System.out.printf("%-24s %-36s %s%n", generator, spec,
+						result.containsKey("error") ? result.get("error") : result.get("wallMillis") + " ms");
+				results.add(result);
+			}
+		}
+
+		final Map<String, Object> report = new LinkedHashMap<>();
+		report.put("javaVersion", System.getProperty("java.version"));
+		report.put("iterations", iterations);
+		report.put("results", results);
+		report.put("wallMillisByGenerator", getWallMillisByGenerator(results));
+		if (reportFile.getParentFile() != null) {
+			reportFile.getParentFile().mkdirs();
+		}
+		Json.mapper().writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+		System.out.println("report written to " + reportFile.getAbsolutePath());
+	}
+
+	/**
+	 * Total wall time of the generators over the corpus, the cheapest first.
+	 */
+	static Map<String, Long> getWallMillisByGenerator(List<Map<String, Object>> results) {
+		final Map<String, Long> totals = new HashMap<>();
+		for (Map<String, Object> result : results) {
+			if (result.containsKey("wallMillis")) {
+				totals.merge((String) result.get("generator"), (Long) result.get("wallMillis"), Long::sum);
+			}
+		}
+		final Map<String, Long> sorted = new LinkedHashMap<>();
+		totals.entrySet().stream().sorted(Map.Entry.comparingByValue())
+				.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+		return sorted;
+	}
+
+	static List<String> getGeneratorNames() {
+		final List<String> names = new ArrayList<>();
+		for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class)) {
+			names.add(config.getName());
+		}
+		return names;
+	}
+
+	static Map<String, Object> run(String generator, String spec, int iterations) {
+		final Map<String, Object> result = new LinkedHashMap<>();
+		result.put("generator", generator);
+		result.put("spec", spec);
+		try {
+			// warm up
+			generate(generator, spec);
+			final long[] totals = new long[6];
+			for (int i = 0; i < iterations; i++) {
+				final long[] measures = generate(generator, spec);
+				for (int j = 0; j < totals.length; j++) {
+					totals[j] += measures[j];
+				}
+			}
+			result.put("wallMillis", totals[0] / iterations / 1000000);
+			result.put("cpuMillis", totals[1] / iterations / 1000000);
+			result.put("sumOfPoolPeakHeapBytes", totals[2] / iterations);
+			result.put("allocatedBytes", totals[3] / iterations);
+			result.put("files", totals[4] / iterations);
+			result.put("fileBytes", totals[5] / iterations);
+		}
+		catch (Exception e) {
+			result.put("error", e.toString());
+		}
+		return result;
+	}
+
+	/**
+	 * @return wall time, CPU time, peak heap, allocated bytes, files and bytes written
+	 */
+	private static long[] generate(String generator, String spec) throws Exception {
+		final File outFolder = GeneratorRunner.getTmpFolder();
+		try {
+			System.gc();
+			resetPeakHeap();
+			final long allocatedBytes = getAllocatedBytes();
+			final long cpuNanos = getProcessCpuNanos();
+			final long start = System.nanoTime();
+
+			final List<File> files = GeneratorRunner.runGenerator(generator, spec,
+					GenerationRequest.CodegenVersion.V3, false, !spec.endsWith(".json"), false,
+					outFolder.getAbsolutePath());
+
+			final long wallNanos = System.nanoTime() - start;
+			long fileBytes = 0;
+			for (File file : files) {
+				fileBytes += file.length();
+			}
+			return new long[] { wallNanos, getProcessCpuNanos() - cpuNanos, getPeakHeap(),
+					getAllocatedBytes() - allocatedBytes, files.size(), fileBytes };
+		}
+		finally {
+			FileUtils.deleteQuietly(outFolder);
+		}
+	}
+
+	private static void resetPeakHeap() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+	/**
+	 * @return the sum of the peak usages of the heap memory pools
+	 */
+	private static long getPeakHeap() {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+	private static long getProcessCpuNanos() {
+		final OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+		if (bean instanceof com.sun.management.OperatingSystemMXBean) {
+			return ((com.sun.management.OperatingSystemMXBean) bean).getProcessCpuTime();
+		}
+		return -1;
+	}
+
+	private static long getAllocatedBytes() {
+		final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+			return -1;
+		}
+		return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+}
@@ -0,0 +1,180 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds synthetic specs of any size for stress and scaling tests. The specs are
+ * deterministic: the same settings always give the same spec.
+ * <p>
+ * Schema {@code Model<i>} is an object with an id, a described name, a date, an enum, a
+ * list, a map and a reference to the previous schema. With an inheritance depth, schemas
+ * extend the previous one through {@code allOf} in chains of that depth. With a
+ * composed fan-out, schemas also have a {@code oneOf} and an {@code anyOf} property over
+ * that many other schemas. Operation {@code <j>} alternately gets or creates
+ * {@code Model<j % schemas>}, the gets optionally filtered by a deepObject parameter.
+ */
+public class SyntheticSpecBuilder {
+
+	private static final String DESCRIPTION = "Description of the \"%s\" model.\n\n"
+			+ "* refers to the previous model\n* has a `status`\n\nSee https://example.com/docs/%s";
+
+	private int schemas = 100;
+
+	private int operations = 100;
+
+	private int inheritanceDepth;
+
+	private int composedFanOut;
+
+	private int enumSize = 3;
+
+	private boolean deepObjectParameters;
+
+	public SyntheticSpecBuilder schemas(int schemas) {
+		if (schemas < 1) {
+			throw new IllegalArgumentException("at least one schema is needed");
+		}
+		this.schemas = schemas;
+		return this;
+	}
+
+	public SyntheticSpecBuilder operations(int operations) {
+		this.operations = operations;
+		return this;
+	}
+
+	public SyntheticSpecBuilder inheritanceDepth(int inheritanceDepth) {
+		this.inheritanceDepth = inheritanceDepth;
+		return this;
+	}
+
+	public SyntheticSpecBuilder composedFanOut(int composedFanOut) {
+		this.composedFanOut = composedFanOut;
+		return this;
+	}
+
+	public SyntheticSpecBuilder enumSize(int enumSize) {
+		this.enumSize = enumSize;
+		return this;
+	}
+
+	public SyntheticSpecBuilder deepObjectParameters(boolean deepObjectParameters) {
+		this.deepObjectParameters = deepObjectParameters;
+		return this;
+	}
+
+	public OpenAPI build() {
+		final Components components = new Components();
+		for (int i = 0; i < schemas; i++) {
+			components.addSchemas(getName(i), createSchema(i));
+		}
+		final Paths paths = new Paths();
+		for (int j = 0; j < operations; j++) {
+			final String name = getName(j % schemas);
+			if (j % 2 == 0) {
+				paths.addPathItem("/resources" + j + "/{id}", new PathItem().get(createGet(j, name)));
+			}
+			else {
+				paths.addPathItem("/resources" + j, new PathItem().post(createPost(j, name)));
+			}
+		}
+		return new OpenAPI().info(new Info().title("synthetic").version("1.0.0")).components(components)
+				.paths(paths);
+	}
+
+	private Schema createSchema(int i) {
+		final String name = getName(i);
+		final Schema schema = new ObjectSchema().description(String.format(DESCRIPTION, name, name))
+				.addProperties("id", new IntegerSchema().format("int64"))
+				.addProperties("name", new StringSchema().description("name of the " + name))
+				.addProperties("createdAt", new DateTimeSchema())
+				.addProperties("tags", new ArraySchema().items(new StringSchema()))
+				.addProperties("attributes", new MapSchema().additionalProperties(new StringSchema()));
+		schema.addRequiredItem("id");
+		if (enumSize > 0) {
+			final List<String> values = new ArrayList<>(enumSize);
+			for (int k = 0; k < enumSize; k++) {
+				values.add("VALUE_" + k);
+			}
+			schema.addProperties("status", new StringSchema()._enum(values));
+		}
+		if (i > 0) {
+			schema.addProperties("previous", createRef(i - 1));
+		}
+		if (composedFanOut > 0 && schemas > 1) {
+			final ComposedSchema oneOf = new ComposedSchema();
+			final ComposedSchema anyOf = new ComposedSchema();
+			for (int k = 1; k <= composedFanOut; k++) {
+				oneOf.addOneOfItem(createRef((i + k) % schemas));
+				anyOf.addAnyOfItem(createRef((i + schemas - k) % schemas));
+			}
+			schema.addProperties("variant", oneOf).addProperties("anyVariant", anyOf);
+		}
+		if (inheritanceDepth > 0 && i % (inheritanceDepth + 1) != 0) {
+			return new ComposedSchema().addAllOfItem(createRef(i - 1)).addAllOfItem(schema);
+		}
+		return schema;
+	}
+
+	private Operation createGet(int j, String name) {
+		final Operation operation = new Operation().operationId("get" + name + "_" + j).summary("Get a " + name)
+				.addTagsItem(getTag(j))
+				.addParametersItem(new PathParameter().name("id").schema(new IntegerSchema().format("int64")))
+				.addParametersItem(new QueryParameter().name("fields").schema(new StringSchema()))
+				.responses(new ApiResponses().addApiResponse("200",
+						new ApiResponse().description("found").content(createContent(name))));
+		if (deepObjectParameters) {
+			operation.addParametersItem(new QueryParameter().name("filter").style(Parameter.StyleEnum.DEEPOBJECT)
+					.explode(true).schema(new Schema().$ref(name)));
+		}
+		return operation;
+	}
+
+	private Operation createPost(int j, String name) {
+		return new Operation().operationId("create" + name + "_" + j).summary("Create a " + name)
+				.addTagsItem(getTag(j))
+				.requestBody(new RequestBody().required(true).content(createContent(name)))
+				.responses(new ApiResponses().addApiResponse("201", new ApiResponse().description("created")));
+	}
+
+	private static Content createContent(String name) {
+		return new Content().addMediaType("application/json", new MediaType().schema(new Schema().$ref(name)));
+	}
+
+	private static Schema createRef(int i) {
+		return new Schema().$ref(getName(i));
+	}
+
+	private static String getName(int i) {
+		return "Model" + i;
+	}
+
+	private static String getTag(int j) {
+		return "Tag" + (j % 10);
+	}
+
+}
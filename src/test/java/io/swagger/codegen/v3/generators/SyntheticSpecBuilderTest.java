@@ -0,0 +1,85 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+public class SyntheticSpecBuilderTest {
+
+	@Test
+	public void testBuild() throws Exception {
+		final SyntheticSpecBuilder builder = new SyntheticSpecBuilder().schemas(20).operations(30).inheritanceDepth(2)
+				.composedFanOut(3).enumSize(5).deepObjectParameters(true);
+		final OpenAPI openAPI = builder.build();
+		Assert.assertEquals(openAPI.getComponents().getSchemas().size(), 20);
+		Assert.assertEquals(openAPI.getPaths().size(), 30);
+		Assert.assertEquals(openAPI.getComponents().getSchemas().get("Model1").getAllOf().size(), 2);
+		Assert.assertNull(openAPI.getComponents().getSchemas().get("Model3").getAllOf());
+
+		final String yaml = Yaml.mapper().writeValueAsString(openAPI);
+		Assert.assertEquals(Yaml.mapper().writeValueAsString(builder.build()), yaml);
+		final SwaggerParseResult result = new OpenAPIV3Parser().readContents(yaml, null, null);
+		Assert.assertTrue(result.getMessages() == null || result.getMessages().isEmpty(),
+				String.valueOf(result.getMessages()));
+	}
+
+	/**
+	 * Model and operation conversion times, per element, grow at most a bit with the
+	 * spec size. Wall-clock ratios depend on the machine, so the test is in the excluded
+	 * benchmark group.
+	 */
+	@Test(groups = "benchmark")
+	public void testScaling() {
+		// warm up
+		convert(200);
+		final double small = convert(200);
+		final double large = convert(800);
+		Assert.assertTrue(large < small * 3, "per element: " + small + " ns for 200 schemas, " + large + " ns for 800");
+	}
+
+	/**
+	 * Prints the conversion time per element for the given spec sizes, by default from 1k
+	 * to 100k schemas.
+	 */
+	public static void main(String[] args) {
+		final String[] sizes = args.length > 0 ? args : new String[] { "1000", "10000", "100000" };
+		convert(Integer.parseInt(sizes[0]));
+		for (String size : sizes) {
+			System.out.printf("%8s schemas: %.0f ns per element%n", size, convert(Integer.parseInt(size)));
+		}
+	}
+
+	/**
+	 * @return nanoseconds per converted model or operation
+	 */
+	private static double convert(int schemas) {
+		final OpenAPI openAPI = new SyntheticSpecBuilder().schemas(schemas).operations(schemas).inheritanceDepth(3)
+				.composedFanOut(2).deepObjectParameters(true).build();
+		final DefaultCodegenConfig config = new JavaClientCodegen();
+		config.preprocessOpenAPI(openAPI);
+		final Map<String, Schema> allDefinitions = openAPI.getComponents().getSchemas();
+
+		final long start = System.nanoTime();
+		for (Map.Entry<String, Schema> entry : allDefinitions.entrySet()) {
+			config.fromModel(entry.getKey(), entry.getValue(), allDefinitions);
+		}
+		for (Map.Entry<String, PathItem> pathItem : openAPI.getPaths().entrySet()) {
+			for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.getValue().readOperationsMap()
+					.entrySet()) {
+				config.fromOperation(pathItem.getKey(), operation.getKey().name().toLowerCase(), operation.getValue(),
+						allDefinitions, openAPI);
+			}
+		}
+		return (double) (System.nanoTime() - start) / (2 * schemas);
+	}
+
+}
@@ -2,7 +2,11 @@ package io.swagger.codegen.v3.generators.examples;
 
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.XML;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.commons.io.FileUtils;
@@ -11,6 +15,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -20,13 +25,7 @@ public class ExampleGeneratorTest {
 
 	@BeforeClass
 	public void setUp() throws Exception {
-		final String content = FileUtils
-				.readFileToString(new File(getClass().getClassLoader().getResource("3_0_0/petstore.yaml").getFile()));
-		final ParseOptions options = new ParseOptions();
-		options.setResolve(true);
-		options.setFlatten(true);
-		final SwaggerParseResult result = new OpenAPIParser().readContents(content, null, options);
-		this.openAPI = result.getOpenAPI();
+		this.openAPI = readPetstore();
 	}
 
 	@Test
@@ -54,4 +53,89 @@ public class ExampleGeneratorTest {
 		Assert.assertTrue(example.get("example").contains("\"name\" : \"Yinotheria\""));
 	}
 
+	@Test
+	public void testReferencedExampleIsReused() throws Exception {
+		final Schema petSchema = new Schema().$ref("#/components/schemas/Pet");
+		final ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI);
+
+		final List<Map<String, String>> exampleList = exampleGenerator.generate(null, null, petSchema);
+		final List<Map<String, String>> secondExampleList = exampleGenerator.generate(null, null, petSchema);
+		Assert.assertEquals(secondExampleList, exampleList);
+		Assert.assertNotSame(secondExampleList.get(0), exampleList.get(0));
+		Assert.assertTrue(exampleList.get(0).get("example").contains("\"name\" : \"doggie\""));
+	}
+
+	@Test
+	public void testImmutableExamples() throws Exception {
+		final OpenAPI petstore = readPetstore();
+		final Schema petSchema = new Schema().$ref("#/components/schemas/Pet");
+		final Schema orderSchema = new Schema().$ref("#/components/schemas/Order");
+
+		final ExampleGenerator exampleGenerator = new ExampleGenerator(petstore, true);
+		final String petExample = exampleGenerator.generate(null, null, petSchema).get(0).get("example");
+		final String orderExample = exampleGenerator.generate(null, null, orderSchema).get(0).get("example");
+		Assert.assertTrue(petExample.contains("\"name\" : \"doggie\""));
+		for (Schema schema : petstore.getComponents().getSchemas().values()) {
+			if (schema.getProperties() != null) {
+				Assert.assertFalse(schema.getExample() instanceof Map);
+			}
+		}
+
+		final ExampleGenerator reversedExampleGenerator = new ExampleGenerator(petstore, true);
+		Assert.assertEquals(reversedExampleGenerator.generate(null, null, orderSchema).get(0).get("example"),
+				orderExample);
+		Assert.assertEquals(reversedExampleGenerator.generate(null, null, petSchema).get(0).get("example"),
+				petExample);
+	}
+
+	@Test
+	public void testLegacyExamplesAreSetOnSchemas() throws Exception {
+		final OpenAPI petstore = readPetstore();
+		final Schema petSchema = new Schema().$ref("#/components/schemas/Pet");
+
+		final String example = new ExampleGenerator(petstore).generate(null, null, petSchema).get(0).get("example");
+		Assert.assertTrue(example.contains("\"name\" : \"doggie\""));
+		Assert.assertTrue(petstore.getComponents().getSchemas().get("Pet").getExample() instanceof Map);
+	}
+
+	@Test
+	public void testXmlExample() throws Exception {
+		final Schema petSchema = new Schema().$ref("#/components/schemas/Pet");
+		final ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI, true);
+
+		final List<Map<String, String>> exampleList = exampleGenerator.generate(null,
+				Collections.singletonList("application/xml"), petSchema);
+		Assert.assertEquals(exampleList.size(), 1);
+		Assert.assertEquals(exampleList.get(0).get("contentType"), "application/xml");
+		final String example = exampleList.get(0).get("example");
+		Assert.assertTrue(example.startsWith("<Pet>"));
+		Assert.assertTrue(example.endsWith("</Pet>"));
+		Assert.assertTrue(example.contains("<name>doggie</name>"));
+		Assert.assertTrue(example.contains("<photoUrl>aeiou</photoUrl>"));
+		Assert.assertTrue(example.contains("<Tag>"));
+		Assert.assertTrue(example.contains("<status>available</status>"));
+	}
+
+	@Test
+	public void testXmlExampleAttributesAndNamespaces() throws Exception {
+		final Schema bookSchema = new ObjectSchema()
+				.xml(new XML().name("book").prefix("bk").namespace("http://example.com/schema/book"))
+				.addProperties("id", new IntegerSchema().xml(new XML().attribute(true)))
+				.addProperties("title", new StringSchema().example("Dune"));
+
+		final String example = new XmlExampleGenerator(openAPI).toXml(bookSchema);
+		Assert.assertEquals(example, "<bk:book xmlns:bk=\"http://example.com/schema/book\" id=\"123\">"
+				+ "\n  <title>Dune</title>\n</bk:book>");
+	}
+
+	private OpenAPI readPetstore() throws Exception {
+		final String content = FileUtils
+				.readFileToString(new File(getClass().getClassLoader().getResource("3_0_0/petstore.yaml").getFile()));
+		final ParseOptions options = new ParseOptions();
+		options.setResolve(true);
+		options.setFlatten(true);
+		final SwaggerParseResult result = new OpenAPIParser().readContents(content, null, options);
+		return result.getOpenAPI();
+	}
+
 }
@@ -0,0 +1,37 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+public class CompiledTemplateCacheTest {
+
+	@Test
+	public void testCache() throws Exception {
+		final Handlebars handlebars = new Handlebars();
+		final CompiledTemplateCache cache = new CompiledTemplateCache(2);
+		final CompiledTemplateCache.Key model = new CompiledTemplateCache.Key("java", "model.mustache",
+				CachingHandlebarTemplateEngine.hash("{{name}}"));
+
+		final Template template = cache.get(model, () -> handlebars.compileInline("{{name}}"));
+		Assert.assertSame(cache.get(model, () -> handlebars.compileInline("{{name}}")), template);
+		Assert.assertEquals(template.apply(Collections.singletonMap("name", "Pet")), "Pet");
+
+		// a changed template is compiled again
+		final CompiledTemplateCache.Key changedModel = new CompiledTemplateCache.Key("java", "model.mustache",
+				CachingHandlebarTemplateEngine.hash("{{name}}!"));
+		Assert.assertNotSame(cache.get(changedModel, () -> handlebars.compileInline("{{name}}!")), template);
+
+		cache.get(new CompiledTemplateCache.Key("java", "api.mustache", CachingHandlebarTemplateEngine.hash("")),
+				() -> handlebars.compileInline(""));
+		Assert.assertEquals(cache.size(), 2);
+		Assert.assertEquals(cache.getHits(), 1);
+		Assert.assertEquals(cache.getMisses(), 3);
+		Assert.assertEquals(cache.getEvictions(), 1);
+		Assert.assertEquals(cache.getHitRate(), 0.25);
+	}
+
+}
@@ -0,0 +1,62 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.codegen.v3.VendorExtendable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ExtensionHelperTest {
+
+	@Test
+	public void testGetBooleanValue() {
+		final CodegenProperty property = new CodegenProperty();
+		property.getVendorExtensions().put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+		property.getVendorExtensions().put(CodegenConstants.HAS_MORE_EXT_NAME, "true");
+		property.getVendorExtensions().put(CodegenConstants.IS_CONTAINER_EXT_NAME, Boolean.FALSE);
+
+		Assert.assertTrue(ExtensionHelper.getBooleanValue(property, CodegenConstants.IS_ENUM_EXT_NAME));
+		Assert.assertTrue(ExtensionHelper.getBooleanValue(property, CodegenConstants.HAS_MORE_EXT_NAME));
+		Assert.assertFalse(ExtensionHelper.getBooleanValue(property, CodegenConstants.IS_CONTAINER_EXT_NAME));
+		Assert.assertFalse(ExtensionHelper.getBooleanValue(property, CodegenConstants.IS_MAP_CONTAINER_EXT_NAME));
+		Assert.assertFalse(ExtensionHelper.getBooleanValue(null, CodegenConstants.IS_ENUM_EXT_NAME));
+	}
+
+	@Test
+	public void testGetExtensionKey() {
+		final Map<String, String> extensionKeys = new HashMap<>();
+		final String extensionKey = ExtensionHelper.getExtensionKey(extensionKeys, VendorExtendable.PREFIX_IS,
+				new String("enum"));
+		Assert.assertSame(extensionKey, "x-is-enum");
+		Assert.assertSame(ExtensionHelper.getExtensionKey(extensionKeys, VendorExtendable.PREFIX_IS, "enum"),
+				extensionKey);
+		Assert.assertEquals(ExtensionHelper.getExtensionKey(extensionKeys, VendorExtendable.PREFIX_IS, null),
+				"x-is-null");
+	}
+
+	@Test
+	public void testHelpers() throws Exception {
+		final Handlebars handlebars = new Handlebars();
+		handlebars.registerHelper(IsHelper.NAME, new IsHelper());
+		handlebars.registerHelper(HasHelper.NAME, new HasHelper());
+		handlebars.registerHelper(IsNotHelper.NAME, new IsNotHelper());
+		handlebars.registerHelper(HasNotHelper.NAME, new HasNotHelper());
+		final Template template = handlebars.compileInline("{{#is this 'enum'}}e{{/is}}{{#has this 'more'}}m{{/has}}"
+				+ "{{#isNot this 'container'}}c{{/isNot}}{{#hasNot this 'validation'}}v{{/hasNot}}");
+
+		final CodegenProperty property = new CodegenProperty();
+		property.getVendorExtensions().put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+		property.getVendorExtensions().put(CodegenConstants.HAS_MORE_EXT_NAME, "false");
+		Assert.assertEquals(template.apply(property), "ecv");
+
+		property.getVendorExtensions().put(CodegenConstants.IS_CONTAINER_EXT_NAME, Boolean.TRUE);
+		property.getVendorExtensions().put(CodegenConstants.HAS_VALIDATION_EXT_NAME, "true");
+		Assert.assertEquals(template.apply(property), "e");
+	}
+
+}
@@ -0,0 +1,51 @@
+package io.swagger.codegen.v3.generators.handlebars.lambda;
+
+import com.github.jknack.handlebars.Context;
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringWriter;
+import java.util.Collections;
+
+public class IndentingWriterTest {
+
+	@Test
+	public void testIndention() throws Exception {
+		Assert.assertEquals(indent("a\nb\n\nc\n\n"), "a\n  b\n  \n  c");
+		Assert.assertEquals(indent("a\r\nb\r\n"), "a\r\n  b");
+		Assert.assertEquals(indent("a\rb\r"), "a\rb\r");
+		Assert.assertEquals(indent("\n\n"), "");
+		Assert.assertEquals(indent(""), "");
+	}
+
+	@Test
+	public void testSplitWrites() throws Exception {
+		final StringWriter writer = new StringWriter();
+		final IndentingWriter indentingWriter = new IndentingWriter(writer, "  ");
+		indentingWriter.write("a\r");
+		indentingWriter.write("\nb\n");
+		indentingWriter.write("\nc\n");
+		indentingWriter.finish();
+		Assert.assertEquals(writer.toString(), "a\r\n  b\n  \n  c");
+	}
+
+	@Test
+	public void testIndentedLambda() throws Exception {
+		final Handlebars handlebars = new Handlebars();
+		final Template template = handlebars.compileInline("{{#indented}}{{value}}{{/indented}}");
+		final Object context = Collections.singletonMap("value", "first\nsecond\n");
+		Assert.assertEquals(template.apply(Context.newContext(context).combine("indented", new IndentedLambda())),
+				"first\n    second");
+	}
+
+	private static String indent(String text) throws Exception {
+		final StringWriter writer = new StringWriter();
+		final IndentingWriter indentingWriter = new IndentingWriter(writer, "  ");
+		indentingWriter.write(text);
+		indentingWriter.finish();
+		return writer.toString();
+	}
+
+}
@@ -1,24 +1,31 @@
 package io.swagger.codegen.v3.generators.java;
 
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.ClientOpts;
 import io.swagger.codegen.v3.CodegenConfig;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenModelFactory;
 import io.swagger.codegen.v3.CodegenModelType;
+import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenSchema;
+import io.swagger.codegen.v3.DefaultGenerator;
 import io.swagger.codegen.v3.ISchemaHandler;
 import io.swagger.codegen.v3.generators.AbstractCodegenTest;
 import io.swagger.codegen.v3.generators.CodegenWrapper;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.generators.SchemaHandler;
+import io.swagger.codegen.v3.generators.SyntheticSpecBuilder;
 import io.swagger.util.Json;
 import io.swagger.util.Yaml;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
 import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.ObjectSchema;
@@ -29,16 +36,19 @@ import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
+import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class JavaClientCodegenTest extends AbstractCodegenTest {
 
@@ -359,4 +369,175 @@ public class JavaClientCodegenTest extends AbstractCodegenTest {
 		Assert.assertTrue(hasComposedModel);
 	}
 
+	@Test
+	public void checkArrayItemsSchemaNotChanged() {
+		final OpenAPI openAPI = getOpenAPI("3_0_0/composed_schemas.yaml");
+		final ArraySchema petsSchema = (ArraySchema) openAPI.getComponents().getSchemas().get("House")
+				.getProperties().get("pets");
+		final Schema petsItems = petsSchema.getItems();
+
+		final CodegenWrapper codegenWrapper = processSchemas(new JavaClientCodegen(), openAPI);
+
+		Assert.assertSame(petsSchema.getItems(), petsItems);
+		final CodegenModel composedModel = codegenWrapper.getSchemaHandler().getModels().stream()
+				.filter(model -> model.name.equals("OneOfHousePetsItems")).findFirst().orElse(null);
+		Assert.assertNotNull(composedModel);
+		final CodegenProperty petsProperty = codegenWrapper.getAllModels().get("House").vars.stream()
+				.filter(codegenProperty -> codegenProperty.baseName.equals("pets")).findFirst().orElse(null);
+		Assert.assertNotNull(petsProperty);
+		Assert.assertEquals(petsProperty.datatype, "List<" + composedModel.classname + ">");
+		Assert.assertEquals(petsProperty.defaultValue, "new ArrayList<" + composedModel.classname + ">()");
+	}
+
+	@Test
+	public void checkParallelModelConversion() {
+		assertParallelModelConversion(getOpenAPI("3_0_0/composed_schemas.yaml"));
+		assertParallelModelConversion(getOpenAPI("3_0_0/polymorphicSchema.yaml"));
+		assertParallelModelConversion(new SyntheticSpecBuilder().schemas(500).operations(0).inheritanceDepth(3)
+				.composedFanOut(2).build());
+	}
+
+	private static void assertParallelModelConversion(OpenAPI openAPI) {
+		final JavaClientCodegen sequentialConfig = new JavaClientCodegen();
+		sequentialConfig.preprocessOpenAPI(openAPI);
+		final Map<String, CodegenModel> sequentialModels = sequentialConfig
+				.fromModels(openAPI.getComponents().getSchemas());
+
+		final JavaClientCodegen parallelConfig = new JavaClientCodegen();
+		parallelConfig.setParallelModels(true);
+		parallelConfig.preprocessOpenAPI(openAPI);
+		final Map<String, CodegenModel> parallelModels = parallelConfig
+				.fromModels(openAPI.getComponents().getSchemas());
+
+		Assert.assertEquals(new ArrayList<>(parallelModels.keySet()),
+				new ArrayList<>(openAPI.getComponents().getSchemas().keySet()));
+		for (Map.Entry<String, CodegenModel> entry : sequentialModels.entrySet()) {
+			final CodegenModel sequentialModel = entry.getValue();
+			final CodegenModel parallelModel = parallelModels.get(entry.getKey());
+			Assert.assertEquals(parallelModel.classname, sequentialModel.classname);
+			Assert.assertEquals(parallelModel.parent, sequentialModel.parent);
+			Assert.assertEquals(parallelModel.imports, sequentialModel.imports);
+			Assert.assertEquals(parallelModel.discriminator, sequentialModel.discriminator);
+			Assert.assertEquals(parallelModel.vars.size(), sequentialModel.vars.size());
+			for (int i = 0; i < parallelModel.vars.size(); i++) {
+				Assert.assertEquals(parallelModel.vars.get(i).datatype, sequentialModel.vars.get(i).datatype);
+			}
+		}
+	}
+
+	@Test
+	public void checkParallelOperationConversion() {
+		assertParallelOperationConversion(() -> getOpenAPI("3_0_0/petstore.yaml"));
+		assertParallelOperationConversion(() -> new SyntheticSpecBuilder().schemas(100).operations(500)
+				.deepObjectParameters(true).build());
+	}
+
+	private static void assertParallelOperationConversion(Supplier<OpenAPI> spec) {
+		final Map<String, List<CodegenOperation>> sequentialOperations = convertOperations(spec.get(), false);
+		final Map<String, List<CodegenOperation>> parallelOperations = convertOperations(spec.get(), true);
+		final Map<String, List<CodegenOperation>> otherParallelOperations = convertOperations(spec.get(), true);
+
+		Assert.assertEquals(parallelOperations.keySet(), sequentialOperations.keySet());
+		for (Map.Entry<String, List<CodegenOperation>> entry : sequentialOperations.entrySet()) {
+			final List<CodegenOperation> operations = parallelOperations.get(entry.getKey());
+			Assert.assertEquals(operations.size(), entry.getValue().size());
+			for (int i = 0; i < operations.size(); i++) {
+				final CodegenOperation sequentialOperation = entry.getValue().get(i);
+				Assert.assertEquals(operations.get(i).operationId, sequentialOperation.operationId);
+				Assert.assertEquals(operations.get(i).path, sequentialOperation.path);
+				Assert.assertEquals(operations.get(i).imports, sequentialOperation.imports);
+				Assert.assertEquals(operations.get(i).returnType, sequentialOperation.returnType);
+				Assert.assertEquals(operations.get(i).allParams.size(), sequentialOperation.allParams.size());
+				// the random numbers of the parallel examples differ from the sequential ones
+				Assert.assertEquals(operations.get(i).examples,
+						otherParallelOperations.get(entry.getKey()).get(i).examples);
+			}
+		}
+	}
+
+	private static Map<String, List<CodegenOperation>> convertOperations(OpenAPI openAPI, boolean parallel) {
+		final JavaClientCodegen config = new JavaClientCodegen();
+		config.setParallelOperations(parallel);
+		config.preprocessOpenAPI(openAPI);
+		return config.fromOperations(openAPI);
+	}
+
+	@Test
+	public void checkOperationsOfGenerator() throws Exception {
+		assertOperationsOfGenerator("3_0_0/parameterOrder.yaml");
+		assertOperationsOfGenerator("3_0_0/petstore.yaml");
+	}
+
+	@SuppressWarnings("unchecked")
+	private void assertOperationsOfGenerator(String spec) throws Exception {
+		final List<String> generatedOperations = new ArrayList<>();
+		final JavaClientCodegen generatorConfig = new JavaClientCodegen() {
+
+			@Override
+			public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs,
+					List<Object> allModels) {
+				final Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+				for (CodegenOperation operation : (List<CodegenOperation>) operations.get("operation")) {
+					generatedOperations.add(describe(operation));
+				}
+				return super.postProcessOperationsWithModels(objs, allModels);
+			}
+
+		};
+		final File output = Files.createTempDirectory("codegen").toFile();
+		try {
+			generatorConfig.setOutputDir(output.getAbsolutePath());
+			new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).openAPI(getOpenAPI(spec))
+					.config(generatorConfig)).generate();
+		}
+		finally {
+			FileUtils.deleteQuietly(output);
+		}
+
+		final OpenAPI openAPI = getOpenAPI(spec);
+		final JavaClientCodegen config = new JavaClientCodegen();
+		config.setParallelOperations(true);
+		config.processOpts();
+		config.preprocessOpenAPI(openAPI);
+		final List<String> operations = new ArrayList<>();
+		config.fromOperations(openAPI).values()
+				.forEach(tagOperations -> tagOperations.forEach(operation -> operations.add(describe(operation))));
+
+		Collections.sort(generatedOperations);
+		Collections.sort(operations);
+		Assert.assertFalse(operations.isEmpty());
+		Assert.assertEquals(operations, generatedOperations);
+	}
+
+	private static String describe(CodegenOperation operation) {
+		final List<String> parameters = new ArrayList<>();
+		operation.allParams.forEach(parameter -> parameters.add(parameter.baseName));
+		final List<String> authMethods = new ArrayList<>();
+		if (operation.authMethods != null) {
+			operation.authMethods.forEach(authMethod -> authMethods.add(authMethod.name));
+		}
+		final List<String> tags = new ArrayList<>();
+		operation.tags.forEach(tag -> tags.add(tag.getName()));
+		return operation.operationId + " " + operation.httpMethod + " " + operation.path + " " + parameters + " "
+				+ authMethods + " " + tags;
+	}
+
+	@Test
+	public void checkDiscriminatorOfSpecNotRenamed() {
+		final Discriminator discriminator = new Discriminator().propertyName("pet_type");
+		final ComposedSchema pet = new ComposedSchema().addOneOfItem(new Schema().$ref("#/components/schemas/Dog"))
+				.addOneOfItem(new Schema().$ref("#/components/schemas/Cat"));
+		pet.setDiscriminator(discriminator);
+		final OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("Pet", pet)
+				.addSchemas("Dog", new ObjectSchema()).addSchemas("Cat", new ObjectSchema()));
+		final JavaClientCodegen config = new JavaClientCodegen();
+		config.preprocessOpenAPI(openAPI);
+
+		for (int i = 0; i < 2; i++) {
+			final CodegenModel codegenModel = config.fromModel("Pet", pet, openAPI.getComponents().getSchemas());
+			Assert.assertEquals(codegenModel.discriminator.getPropertyName(), "petType");
+		}
+		Assert.assertEquals(discriminator.getPropertyName(), "pet_type");
+	}
+
 }
@@ -0,0 +1,68 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenConstants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+public class FlagMapTest {
+
+	@Test
+	public void testMapView() {
+		final Map<String, Object> extensions = new HashMap<>();
+		final FlagMap flagMap = new FlagMap();
+		put(extensions, flagMap, CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+		put(extensions, flagMap, CodegenConstants.HAS_MORE_EXT_NAME, Boolean.FALSE);
+		put(extensions, flagMap, CodegenConstants.HAS_AUTH_METHODS_EXT_NAME, Boolean.TRUE);
+		put(extensions, flagMap, "x-custom", "value");
+		Assert.assertEquals(flagMap, extensions);
+		Assert.assertEquals(flagMap.hashCode(), extensions.hashCode());
+		Assert.assertSame(flagMap.get(CodegenConstants.IS_ENUM_EXT_NAME), Boolean.TRUE);
+		Assert.assertTrue(flagMap.containsKey(CodegenConstants.HAS_MORE_EXT_NAME));
+		Assert.assertFalse(flagMap.containsKey(CodegenConstants.IS_NULLABLE_EXT_NAME));
+
+		// flags with other values are kept as they are
+		Assert.assertEquals(flagMap.put(CodegenConstants.IS_ENUM_EXT_NAME, "true"), Boolean.TRUE);
+		Assert.assertEquals(flagMap.get(CodegenConstants.IS_ENUM_EXT_NAME), "true");
+		Assert.assertEquals(flagMap.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.FALSE), "true");
+		Assert.assertEquals(flagMap.size(), 4);
+
+		Assert.assertEquals(flagMap.remove(CodegenConstants.HAS_MORE_EXT_NAME), Boolean.FALSE);
+		Assert.assertNull(flagMap.get(CodegenConstants.HAS_MORE_EXT_NAME));
+		Assert.assertEquals(flagMap.size(), 3);
+	}
+
+	@Test
+	public void testIterator() {
+		final FlagMap flagMap = new FlagMap();
+		flagMap.put("x-custom", "value");
+		flagMap.put(CodegenConstants.HAS_MORE_EXT_NAME, Boolean.TRUE);
+		flagMap.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.FALSE);
+
+		final Iterator<Map.Entry<String, Object>> iterator = flagMap.entrySet().iterator();
+		Map.Entry<String, Object> entry = iterator.next();
+		Assert.assertEquals(entry.getKey(), CodegenConstants.IS_ENUM_EXT_NAME);
+		Assert.assertEquals(entry.setValue(Boolean.TRUE), Boolean.FALSE);
+		entry = iterator.next();
+		Assert.assertEquals(entry.getKey(), CodegenConstants.HAS_MORE_EXT_NAME);
+		iterator.remove();
+		entry = iterator.next();
+		Assert.assertEquals(entry.getKey(), "x-custom");
+		Assert.assertFalse(iterator.hasNext());
+
+		final Map<String, Object> extensions = new HashMap<>();
+		extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+		extensions.put("x-custom", "value");
+		Assert.assertEquals(flagMap, extensions);
+		Assert.assertEquals(new FlagMap(extensions), extensions);
+	}
+
+	private static void put(Map<String, Object> extensions, FlagMap flagMap, String key, Object value) {
+		extensions.put(key, value);
+		flagMap.put(key, value);
+	}
+
+}
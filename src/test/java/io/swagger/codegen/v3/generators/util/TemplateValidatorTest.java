@@ -0,0 +1,42 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class TemplateValidatorTest {
+
+	@Test
+	public void testValidate() throws Exception {
+		final Path root = Files.createTempDirectory("templates");
+		write(root, "Java/licenseInfo.mustache", "/* license */");
+		write(root, "Java/api.mustache", "{{>licenseInfo}}\n{{#operations}}{{operationId}}{{/operations}}");
+		write(root, "Java/libraries/feign/api.mustache", "{{>licenseInfo}}");
+		write(root, "Java/model.mustache", "{{>modelHeader}}");
+		write(root, "Java/pojo.mustache", "{{#models}}");
+		write(root, "go/api.mustache", "{{>licenseInfo}}");
+
+		Assert.assertEquals(TemplateValidator.list(root), Arrays.asList("Java/api.mustache",
+				"Java/libraries/feign/api.mustache", "Java/licenseInfo.mustache", "Java/model.mustache",
+				"Java/pojo.mustache", "go/api.mustache"));
+
+		final List<String> errors = TemplateValidator.validate(root);
+		Assert.assertEquals(errors.size(), 3);
+		Assert.assertEquals(errors.get(0), "Java/model.mustache: partial not found: modelHeader");
+		Assert.assertTrue(errors.get(1).startsWith("Java/pojo.mustache: "));
+		Assert.assertEquals(errors.get(2), "go/api.mustache: partial not found: licenseInfo");
+	}
+
+	private static void write(Path root, String file, String content) throws IOException {
+		final Path path = root.resolve(file);
+		Files.createDirectories(path.getParent());
+		Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
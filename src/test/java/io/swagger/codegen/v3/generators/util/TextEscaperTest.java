@@ -0,0 +1,33 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TextEscaperTest {
+
+	@Test
+	public void testEscapeText() {
+		Assert.assertEquals(TextEscaper.escapeText("a\tb\nc\r\nd"), "a b c  d");
+		Assert.assertEquals(TextEscaper.escapeText("say \"hi\" \\o/"), "say \\\"hi\\\" \\\\o/");
+		// a backslash before a slash is dropped
+		Assert.assertEquals(TextEscaper.escapeText("a\\/b"), "a/b");
+		Assert.assertEquals(TextEscaper.escapeText("C:\\temp \u00e9\ud83d\ude00"), "C:\\\\temp \u00e9\ud83d\ude00");
+
+		final String text = "nothing to escape";
+		Assert.assertSame(TextEscaper.escapeText(text), text);
+	}
+
+	@Test
+	public void testEscape() {
+		// same as chained replace calls, the second replacement sees the first one
+		Assert.assertEquals(TextEscaper.BLOCK_COMMENT.escape("/* a */*/"), "/_* a *_/_*_/");
+		Assert.assertEquals(TextEscaper.NONE.replace("*/", "").escape("**//"), "*/");
+		Assert.assertEquals(TextEscaper.NONE.replace("]]", "] ]").escape("]]]"), "] ]]");
+
+		final String text = "nothing to escape";
+		Assert.assertSame(TextEscaper.BLOCK_COMMENT.escape(text), text);
+		Assert.assertSame(TextEscaper.NONE.escape(text), text);
+		Assert.assertNull(TextEscaper.BLOCK_COMMENT.escape(null));
+	}
+
+}